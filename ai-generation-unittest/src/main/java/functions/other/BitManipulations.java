@@ -60,4 +60,19 @@ public class BitManipulations {
   public static boolean isPowerOfTwo(int n) {
     return n > 0 && (n & (n - 1)) == 0;
   }
+
+  // Sets the i'th bit of a 64-bit set to 1
+  public static long setBit(long set, int i) {
+    return set | (1L << i);
+  }
+
+  // Checks if the i'th bit of a 64-bit set is set
+  public static boolean isSet(long set, int i) {
+    return (set & (1L << i)) != 0;
+  }
+
+  // Sets the i'th bit of a 64-bit set to zero
+  public static long clearBit(long set, int i) {
+    return set & ~(1L << i);
+  }
 }
@@ -0,0 +1,239 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * A StringSearcher which picks the engine for each call from the pattern length, the size of the
+ * alphabet and the text length:
+ *
+ * <ul>
+ *   <li>Bitap for patterns of up to 64 characters over small alphabets, where skip tables rarely
+ *       skip and a constant amount of bit work per character wins
+ *   <li>Boyer-Moore-Galil for long patterns, whose good-suffix and Galil rules keep the search
+ *       linear where the bad-character rule alone degrades towards O(nm), both on mismatches
+ *       after long partial matches and on overlapping occurrences
+ *   <li>Boyer-Moore everywhere else, and for texts too short to amortise compiling anything else
+ * </ul>
+ *
+ * <p>The thresholds default to values measured on a typical x86-64 JVM; {@link #calibrate()}
+ * re-measures them on the running machine.
+ */
+package functions.strings;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class AdaptiveStringSearch implements StringSearcher {
+
+  /** The engines this searcher chooses between */
+  public enum Strategy implements StringSearcher {
+    BOYER_MOORE {
+      @Override
+      public List<Integer> findOccurrences(String text, String pattern) {
+        return new BoyerMooreStringSearch().findOccurrences(text, pattern);
+      }
+    },
+    BOYER_MOORE_GALIL {
+      @Override
+      public List<Integer> findOccurrences(String text, String pattern) {
+        if (cannotMatch(text, pattern)) return new ArrayList<>();
+        return new BoyerMooreGalilSearch(pattern).find(text);
+      }
+    },
+    /** Bitap for patterns of up to 64 characters, Boyer-Moore for longer ones */
+    BITAP {
+      @Override
+      public List<Integer> findOccurrences(String text, String pattern) {
+        if (cannotMatch(text, pattern)) return new ArrayList<>();
+        if (pattern.length() > BitapStringSearch.MAX_PATTERN_LENGTH) {
+          return BOYER_MOORE.findOccurrences(text, pattern);
+        }
+        return new BitapStringSearch(pattern).find(text);
+      }
+    }
+  }
+
+  static final int DEFAULT_BITAP_MAX_ALPHABET = 4;
+
+  static final int DEFAULT_GALIL_MIN_PATTERN_LENGTH = 8;
+
+  // Texts this short are searched with Boyer-Moore since any preprocessing dominates
+  static final int MIN_TEXT_LENGTH = 256;
+
+  // Number of leading text characters inspected to estimate the alphabet size
+  private static final int ALPHABET_SAMPLE = 1024;
+
+  private final int bitapMaxAlphabet;
+  private final int galilMinPatternLength;
+
+  public AdaptiveStringSearch() {
+    this(DEFAULT_BITAP_MAX_ALPHABET, DEFAULT_GALIL_MIN_PATTERN_LENGTH);
+  }
+
+  /**
+   * @param bitapMaxAlphabet the largest alphabet for which Bitap is used on patterns of up to 64
+   *     characters
+   * @param galilMinPatternLength the shortest pattern for which Boyer-Moore-Galil is used
+   */
+  public AdaptiveStringSearch(int bitapMaxAlphabet, int galilMinPatternLength) {
+    if (bitapMaxAlphabet < 0 || galilMinPatternLength < 1) {
+      throw new IllegalArgumentException(
+          "bitapMaxAlphabet must be >= 0 and galilMinPatternLength > 0");
+    }
+    this.bitapMaxAlphabet = bitapMaxAlphabet;
+    this.galilMinPatternLength = galilMinPatternLength;
+  }
+
+  @Override
+  public List<Integer> findOccurrences(String text, String pattern) {
+    if (cannotMatch(text, pattern)) return new ArrayList<>();
+    return strategyFor(text, pattern).findOccurrences(text, pattern);
+  }
+
+  private static boolean cannotMatch(String text, String pattern) {
+    return isNull(text)
+        || isNull(pattern)
+        || pattern.length() > text.length()
+        || pattern.length() == 0;
+  }
+
+  /**
+   * Chooses the engine used to search for pattern in text
+   *
+   * @param text the string being searched in, must not be null
+   * @param pattern the string being searched for, must not be null or empty
+   * @return the engine findOccurrences would use
+   */
+  public Strategy strategyFor(String text, String pattern) {
+    if (text.length() < MIN_TEXT_LENGTH) return Strategy.BOYER_MOORE;
+    int m = pattern.length();
+    if (m <= BitapStringSearch.MAX_PATTERN_LENGTH
+        && alphabetSize(pattern, text) <= bitapMaxAlphabet) {
+      return Strategy.BITAP;
+    }
+    return m >= galilMinPatternLength
+        ? Strategy.BOYER_MOORE_GALIL
+        : Strategy.BOYER_MOORE;
+  }
+
+  public int bitapMaxAlphabet() {
+    return bitapMaxAlphabet;
+  }
+
+  public int galilMinPatternLength() {
+    return galilMinPatternLength;
+  }
+
+  // Counts the distinct characters of the pattern and of a prefix of the text, stopping early
+  // once the count exceeds every threshold that depends on it
+  private int alphabetSize(String pattern, String text) {
+    int limit = bitapMaxAlphabet + 1;
+    char[] seen = new char[limit];
+    int size = 0;
+    int sample = Math.min(text.length(), ALPHABET_SAMPLE);
+    for (int i = 0; i < pattern.length() + sample && size < limit; i++) {
+      char c = i < pattern.length() ? pattern.charAt(i) : text.charAt(i - pattern.length());
+      int j = 0;
+      while (j < size && seen[j] != c) j++;
+      if (j == size) seen[size++] = c;
+    }
+    return size;
+  }
+
+  /**
+   * Measures Bitap against Boyer-Moore on random text of growing alphabets, and Boyer-Moore-Galil
+   * against Boyer-Moore on patterns of growing length which make the bad-character rule alone
+   * quadratic. Returns a searcher with the largest alphabet on which Bitap still wins and the
+   * shortest pattern on which Boyer-Moore-Galil starts to win on this machine. Takes a few hundred
+   * milliseconds.
+   *
+   * @return a searcher tuned for the running JVM
+   */
+  public static AdaptiveStringSearch calibrate() {
+    Random random = new Random(0);
+    int bitapMaxAlphabet = 0;
+    for (int alphabet = 2; alphabet <= 64; alphabet *= 2) {
+      String text = randomText(random, 1 << 18, alphabet);
+      String pattern = text.substring(1000, 1000 + 32);
+      if (nanos(Strategy.BITAP, text, pattern) >= nanos(Strategy.BOYER_MOORE, text, pattern)) {
+        break;
+      }
+      bitapMaxAlphabet = alphabet;
+    }
+    int galilMinPatternLength = Integer.MAX_VALUE;
+    // On a run of one character the bad-character rule shifts by one after comparing the whole
+    // pattern, both for a run of that character, which matches everywhere and is handled by
+    // Galil's rule, and for "b" followed by a run, which never matches and is handled by the
+    // good-suffix rule
+    char[] run = new char[1 << 16];
+    Arrays.fill(run, 'a');
+    String text = new String(run);
+    for (int m = 2; m <= 4096; m *= 2) {
+      String periodic = text.substring(0, m);
+      String mismatching = 'b' + text.substring(0, m - 1);
+      long galil =
+          nanos(Strategy.BOYER_MOORE_GALIL, text, periodic)
+              + nanos(Strategy.BOYER_MOORE_GALIL, text, mismatching);
+      long boyerMoore =
+          nanos(Strategy.BOYER_MOORE, text, periodic)
+              + nanos(Strategy.BOYER_MOORE, text, mismatching);
+      if (galil < boyerMoore) {
+        galilMinPatternLength = m;
+        break;
+      }
+    }
+    return new AdaptiveStringSearch(bitapMaxAlphabet, galilMinPatternLength);
+  }
+
+  // Best of three runs, so that one-off JIT compilation does not skew the comparison
+  private static long nanos(Strategy strategy, String text, String pattern) {
+    long best = Long.MAX_VALUE;
+    for (int run = 0; run < 3; run++) {
+      long begin = System.nanoTime();
+      strategy.findOccurrences(text, pattern);
+      best = Math.min(best, System.nanoTime() - begin);
+    }
+    return best;
+  }
+
+  private static String randomText(Random random, int length, int alphabet) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) chars[i] = (char) ('a' + random.nextInt(alphabet));
+    return new String(chars);
+  }
+
+  public static void main(String[] args) {
+    long begin = System.nanoTime();
+    AdaptiveStringSearch calibrated = calibrate();
+    System.out.printf(
+        "calibrated in %dms: bitapMaxAlphabet=%d galilMinPatternLength=%d%n",
+        (System.nanoTime() - begin) / 1_000_000,
+        calibrated.bitapMaxAlphabet(),
+        calibrated.galilMinPatternLength());
+  }
+}
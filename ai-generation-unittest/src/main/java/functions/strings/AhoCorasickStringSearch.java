@@ -0,0 +1,306 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Aho-Corasick automaton for searching many patterns at once. The automaton is built once from a
+ * set of patterns and then reports every (patternId, offset) occurrence in a single pass over the
+ * text, so the cost of a search no longer grows with the number of patterns.
+ *
+ * <p>Time complexity to build O(total pattern length * log(alphabet)), to search
+ * O(n * log(alphabet) + number of matches)
+ */
+package functions.strings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class AhoCorasickStringSearch {
+
+  // Receives every occurrence found during a search
+  public interface MatchHandler {
+    /**
+     * @param patternId index of the matched pattern in the array given to the constructor
+     * @param offset index in the text where the occurrence starts
+     */
+    void onMatch(int patternId, int offset);
+  }
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  // The length of every pattern, indexed by pattern id
+  private final int[] patternLengths;
+
+  // Outgoing edges of every node, sorted by character once the trie is built
+  private char[][] edgeChars;
+  private int[][] edgeTargets;
+  private int[] edgeCount;
+
+  // Failure link of every node (longest proper suffix which is also a trie node)
+  private int[] fail;
+
+  // First pattern ending at a node, and the next pattern sharing the same end node
+  private int[] nodeOutput;
+  private final int[] nextOutput;
+
+  // Closest node on the failure chain which has an output, or NONE
+  private int[] dictionaryLink;
+
+  private int nodeCount;
+
+  /**
+   * Builds the automaton. Null or empty patterns are accepted but never match.
+   *
+   * @param patterns the patterns to search for, pattern ids are their indexes in this array
+   */
+  public AhoCorasickStringSearch(String[] patterns) {
+    if (patterns == null) throw new IllegalArgumentException("patterns cannot be null");
+    patternLengths = new int[patterns.length];
+    nextOutput = new int[patterns.length];
+    Arrays.fill(nextOutput, NONE);
+
+    int capacity = 1;
+    for (String pattern : patterns) if (pattern != null) capacity += pattern.length();
+    edgeChars = new char[capacity][];
+    edgeTargets = new int[capacity][];
+    edgeCount = new int[capacity];
+    nodeOutput = new int[capacity];
+    Arrays.fill(nodeOutput, NONE);
+    nodeCount = 1;
+
+    for (int id = 0; id < patterns.length; id++) insert(patterns[id], id);
+    sortEdges();
+    buildFailureLinks();
+  }
+
+  public int patternCount() {
+    return patternLengths.length;
+  }
+
+  /**
+   * Reports every occurrence of every pattern in text, ordered by the index where the occurrence
+   * ends.
+   *
+   * @param text the string being searched in
+   * @param handler receives the pattern id and start offset of each occurrence
+   */
+  public void search(String text, MatchHandler handler) {
+    if (text == null) return;
+    int state = ROOT;
+    for (int i = 0; i < text.length(); i++) {
+      state = next(state, text.charAt(i));
+      int node = nodeOutput[state] != NONE ? state : dictionaryLink[state];
+      while (node != NONE) {
+        for (int id = nodeOutput[node]; id != NONE; id = nextOutput[id]) {
+          handler.onMatch(id, i - patternLengths[id] + 1);
+        }
+        node = dictionaryLink[node];
+      }
+    }
+  }
+
+  /**
+   * Reports every occurrence in text[from, to), reading each byte as the char of the same value,
+   * so patterns given as ISO-8859-1 decoded byte strings match raw bytes without copying them into
+   * a String. Occurrences are ordered by the index where they end.
+   *
+   * @param text the bytes being searched in
+   * @param from index of the first byte searched
+   * @param to index after the last byte searched
+   * @param handler receives the pattern id and the index in text where each occurrence starts
+   */
+  public void search(byte[] text, int from, int to, MatchHandler handler) {
+    if (from < 0 || from > to || to > text.length) {
+      throw new IndexOutOfBoundsException("range is outside of text");
+    }
+    int state = ROOT;
+    for (int i = from; i < to; i++) {
+      state = next(state, (char) (text[i] & 0xFF));
+      int node = nodeOutput[state] != NONE ? state : dictionaryLink[state];
+      while (node != NONE) {
+        for (int id = nodeOutput[node]; id != NONE; id = nextOutput[id]) {
+          handler.onMatch(id, i - patternLengths[id] + 1);
+        }
+        node = dictionaryLink[node];
+      }
+    }
+  }
+
+  /**
+   * Collects every occurrence of every pattern in text.
+   *
+   * @param text the string being searched in
+   * @return List of {patternId, offset} pairs
+   */
+  public List<int[]> findOccurrences(String text) {
+    List<int[]> occurrences = new ArrayList<>();
+    search(text, (patternId, offset) -> occurrences.add(new int[] {patternId, offset}));
+    return occurrences;
+  }
+
+  private void insert(String pattern, int id) {
+    if (pattern == null || pattern.isEmpty()) return;
+    int node = ROOT;
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      int child = findEdgeLinear(node, c);
+      if (child == NONE) {
+        child = nodeCount++;
+        addEdge(node, c, child);
+      }
+      node = child;
+    }
+    patternLengths[id] = pattern.length();
+    // Keep ids which share an end node chained in ascending order
+    if (nodeOutput[node] == NONE) {
+      nodeOutput[node] = id;
+    } else {
+      int last = nodeOutput[node];
+      while (nextOutput[last] != NONE) last = nextOutput[last];
+      nextOutput[last] = id;
+    }
+  }
+
+  private void addEdge(int node, char c, int child) {
+    if (edgeChars[node] == null) {
+      edgeChars[node] = new char[2];
+      edgeTargets[node] = new int[2];
+    } else if (edgeCount[node] == edgeChars[node].length) {
+      edgeChars[node] = Arrays.copyOf(edgeChars[node], edgeCount[node] * 2);
+      edgeTargets[node] = Arrays.copyOf(edgeTargets[node], edgeCount[node] * 2);
+    }
+    edgeChars[node][edgeCount[node]] = c;
+    edgeTargets[node][edgeCount[node]] = child;
+    edgeCount[node]++;
+  }
+
+  private int findEdgeLinear(int node, char c) {
+    for (int i = 0; i < edgeCount[node]; i++) {
+      if (edgeChars[node][i] == c) return edgeTargets[node][i];
+    }
+    return NONE;
+  }
+
+  // Sorts the edges of every node so lookups during search can binary search
+  private void sortEdges() {
+    for (int node = 0; node < nodeCount; node++) {
+      int count = edgeCount[node];
+      if (count < 2) continue;
+      long[] packed = new long[count];
+      for (int i = 0; i < count; i++) {
+        packed[i] = ((long) edgeChars[node][i] << 32) | edgeTargets[node][i];
+      }
+      Arrays.sort(packed);
+      for (int i = 0; i < count; i++) {
+        edgeChars[node][i] = (char) (packed[i] >>> 32);
+        edgeTargets[node][i] = (int) packed[i];
+      }
+    }
+  }
+
+  private int findEdge(int node, char c) {
+    char[] chars = edgeChars[node];
+    int lo = 0, hi = edgeCount[node] - 1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      if (chars[mid] < c) lo = mid + 1;
+      else if (chars[mid] > c) hi = mid - 1;
+      else return edgeTargets[node][mid];
+    }
+    return NONE;
+  }
+
+  private void buildFailureLinks() {
+    fail = new int[nodeCount];
+    dictionaryLink = new int[nodeCount];
+    Arrays.fill(dictionaryLink, NONE);
+    int[] queue = new int[nodeCount];
+    int head = 0, tail = 0;
+    for (int i = 0; i < edgeCount[ROOT]; i++) {
+      int child = edgeTargets[ROOT][i];
+      fail[child] = ROOT;
+      queue[tail++] = child;
+    }
+    while (head < tail) {
+      int node = queue[head++];
+      for (int i = 0; i < edgeCount[node]; i++) {
+        char c = edgeChars[node][i];
+        int child = edgeTargets[node][i];
+        int f = next(fail[node], c);
+        fail[child] = f;
+        dictionaryLink[child] = nodeOutput[f] != NONE ? f : dictionaryLink[f];
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  // Follows failure links until a node with an edge labelled c is found
+  private int next(int state, char c) {
+    while (true) {
+      int child = findEdge(state, c);
+      if (child != NONE) return child;
+      if (state == ROOT) return ROOT;
+      state = fail[state];
+    }
+  }
+
+  // Compares the automaton against looping over BoyerMooreStringSearch.findOccurrences
+  public static void main(String[] args) {
+    Random random = new Random(0);
+    String text = randomString(random, 1 << 16, 4);
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+
+    for (int patternCount : new int[] {10, 1_000, 100_000}) {
+      String[] patterns = new String[patternCount];
+      for (int i = 0; i < patternCount; i++) patterns[i] = randomString(random, 8, 4);
+
+      long start = System.nanoTime();
+      AhoCorasickStringSearch automaton = new AhoCorasickStringSearch(patterns);
+      int[] automatonMatches = new int[1];
+      automaton.search(text, (patternId, offset) -> automatonMatches[0]++);
+      long automatonNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      long loopMatches = 0;
+      for (String pattern : patterns) {
+        loopMatches += boyerMoore.findOccurrences(text, pattern).size();
+      }
+      long loopNanos = System.nanoTime() - start;
+
+      System.out.printf(
+          "patterns=%d aho-corasick=%dms (%d matches) boyer-moore loop=%dms (%d matches)%n",
+          patternCount, automatonNanos / 1_000_000, automatonMatches[0], loopNanos / 1_000_000,
+          loopMatches);
+    }
+  }
+
+  private static String randomString(Random random, int length, int alphabetSize) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) chars[i] = (char) ('a' + random.nextInt(alphabetSize));
+    return new String(chars);
+  }
+}
@@ -0,0 +1,232 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Bit-parallel Shift-Or (Bitap) search for patterns of up to 64 characters. The state of every
+ * pattern prefix is kept in one bit of a long, so each text character costs a shift and an or no
+ * matter how small the alphabet is, which beats skip-based searches on alphabets such as DNA. The
+ * same idea extends to approximate search with k mismatches (Hamming distance) or k edits
+ * (Levenshtein distance, Wu-Manber) using k + 1 state words.
+ *
+ * <p>Bits follow the Shift-Or convention: a 0 bit marks a pattern prefix which currently matches.
+ */
+package functions.strings;
+
+import static functions.other.BitManipulations.clearBit;
+import static functions.other.BitManipulations.isSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+public class BitapStringSearch {
+
+  public static final int MAX_PATTERN_LENGTH = Long.SIZE;
+
+  private static final int DIRECT_SIZE = 256;
+
+  private final int m;
+
+  // masks[c] has bit i cleared when pattern[i] == c, direct for Latin-1 characters
+  private final long[] directMasks = new long[DIRECT_SIZE];
+
+  // Masks of pattern characters above U+00FF, keyed by the sorted characters
+  private final char[] highChars;
+  private final long[] highMasks;
+
+  /**
+   * @param pattern the string being searched for, between 1 and 64 characters long
+   */
+  public BitapStringSearch(String pattern) {
+    if (pattern == null || pattern.isEmpty() || pattern.length() > MAX_PATTERN_LENGTH) {
+      throw new IllegalArgumentException("pattern length must be in [1, 64]");
+    }
+    m = pattern.length();
+    Arrays.fill(directMasks, ~0L);
+    char[] high = new char[m];
+    int highCount = 0;
+    for (int i = 0; i < m; i++) {
+      char c = pattern.charAt(i);
+      if (c < DIRECT_SIZE) directMasks[c] = clearBit(directMasks[c], i);
+      else high[highCount++] = c;
+    }
+    Arrays.sort(high, 0, highCount);
+    int distinct = 0;
+    for (int i = 0; i < highCount; i++) {
+      if (i == 0 || high[i] != high[i - 1]) high[distinct++] = high[i];
+    }
+    highChars = Arrays.copyOf(high, distinct);
+    highMasks = new long[distinct];
+    Arrays.fill(highMasks, ~0L);
+    for (int i = 0; i < m; i++) {
+      char c = pattern.charAt(i);
+      if (c >= DIRECT_SIZE) {
+        int slot = Arrays.binarySearch(highChars, c);
+        highMasks[slot] = clearBit(highMasks[slot], i);
+      }
+    }
+  }
+
+  /**
+   * Finds every exact occurrence of the pattern in text
+   *
+   * @param text the string being searched in
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> find(String text) {
+    List<Integer> occurrences = new ArrayList<>();
+    forEach(text, occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Passes the index of every exact occurrence of the pattern in text to consumer
+   *
+   * @param text the string being searched in
+   * @param consumer receives the start index of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(String text, IntConsumer consumer) {
+    if (text == null) return 0;
+    int count = 0;
+    long state = ~0L;
+    for (int i = 0; i < text.length(); i++) {
+      state = (state << 1) | mask(text.charAt(i));
+      if (!isSet(state, m - 1)) {
+        consumer.accept(i - m + 1);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Passes the index of every substring of text of the pattern's length which differs from the
+   * pattern in at most k positions to consumer
+   *
+   * @param text the string being searched in
+   * @param k the maximum number of mismatching characters
+   * @param consumer receives the start index of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEachWithMismatches(String text, int k, IntConsumer consumer) {
+    if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+    if (text == null) return 0;
+    long[] state = new long[k + 1];
+    Arrays.fill(state, ~0L);
+    int count = 0;
+    for (int i = 0; i < text.length(); i++) {
+      long mask = mask(text.charAt(i));
+      long previous = state[0];
+      state[0] = (previous << 1) | mask;
+      for (int d = 1; d <= k; d++) {
+        long old = state[d];
+        // Either the character matches, or it is a mismatch on top of d - 1 mismatches
+        state[d] = ((old << 1) | mask) & (previous << 1);
+        previous = old;
+      }
+      if (!isSet(state[k], m - 1)) {
+        consumer.accept(i - m + 1);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Passes the end of every substring of text within edit distance k of the pattern to consumer.
+   * Since approximate matches ending at the same index may start at several places, only the end
+   * index is reported.
+   *
+   * @param text the string being searched in
+   * @param k the maximum number of inserted, deleted or substituted characters
+   * @param consumer receives the index one past the end of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEachWithEdits(String text, int k, IntConsumer consumer) {
+    if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+    if (text == null) return 0;
+    long[] state = new long[k + 1];
+    // Up to d pattern characters may be deleted before the first text character
+    for (int d = 0; d <= k; d++) state[d] = d >= Long.SIZE ? 0 : ~0L << d;
+    int count = 0;
+    for (int i = 0; i < text.length(); i++) {
+      long mask = mask(text.charAt(i));
+      long previous = state[0];
+      state[0] = (previous << 1) | mask;
+      for (int d = 1; d <= k; d++) {
+        long old = state[d];
+        state[d] =
+            ((old << 1) | mask) // match
+                & (previous << 1) // substitution
+                & (state[d - 1] << 1) // deletion of a pattern character
+                & previous; // insertion of a text character
+        previous = old;
+      }
+      if (!isSet(state[k], m - 1)) {
+        consumer.accept(i + 1);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private long mask(char c) {
+    if (c < DIRECT_SIZE) return directMasks[c];
+    int slot = Arrays.binarySearch(highChars, c);
+    return slot < 0 ? ~0L : highMasks[slot];
+  }
+
+  // Compares exact Shift-Or search against BoyerMooreStringSearch across alphabet sizes
+  public static void main(String[] args) {
+    Random random = new Random(0);
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    for (int alphabetSize : new int[] {2, 4, 26, 256}) {
+      char[] chars = new char[1 << 22];
+      for (int i = 0; i < chars.length; i++) chars[i] = (char) (random.nextInt(alphabetSize));
+      String text = new String(chars);
+      for (int m : new int[] {8, 32}) {
+        int start = random.nextInt(text.length() - m);
+        String pattern = text.substring(start, start + m);
+        BitapStringSearch bitap = new BitapStringSearch(pattern);
+        int[] bitapMatches = new int[1];
+        long begin = System.nanoTime();
+        bitap.forEach(text, offset -> bitapMatches[0]++);
+        long bitapNanos = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        int boyerMooreMatches = boyerMoore.findOccurrences(text, pattern).size();
+        long boyerMooreNanos = System.nanoTime() - begin;
+
+        System.out.printf(
+            "alphabet=%d m=%d bitap=%dms (%d matches) boyer-moore=%dms (%d matches)%n",
+            alphabetSize, m, bitapNanos / 1_000_000, bitapMatches[0],
+            boyerMooreNanos / 1_000_000, boyerMooreMatches);
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Boyer-Moore search over a character stream. The input is read through a fixed-size sliding buffer
+ * which keeps the last pattern.length() - 1 characters of the previous chunk, so matches crossing a
+ * chunk boundary are found while memory stays O(buffer + pattern) regardless of the input size.
+ */
+package functions.strings;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.function.LongConsumer;
+
+public class BoyerMooreStreamSearch {
+
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  private final BoyerMoorePattern pattern;
+  private final int bufferSize;
+
+  public BoyerMooreStreamSearch(BoyerMoorePattern pattern) {
+    this(pattern, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param pattern the compiled pattern being searched for
+   * @param bufferSize the number of fresh characters read per chunk
+   */
+  public BoyerMooreStreamSearch(BoyerMoorePattern pattern, int bufferSize) {
+    if (pattern == null) throw new IllegalArgumentException("pattern cannot be null");
+    if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize must be positive");
+    this.pattern = pattern;
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Searches every character of reader. The reader is read to the end but not closed.
+   *
+   * @param reader the characters being searched in
+   * @param consumer receives the absolute stream offset, in chars, of each occurrence
+   * @return the number of occurrences
+   */
+  public long search(Reader reader, LongConsumer consumer) throws IOException {
+    int carry = pattern.pattern().length() - 1;
+    char[] buffer = new char[carry + bufferSize];
+    // Absolute stream offset of buffer[0] and the number of valid characters in the buffer
+    long[] base = {0};
+    int length = 0;
+    long count = 0;
+
+    int read;
+    while ((read = reader.read(buffer, length, buffer.length - length)) != -1) {
+      length += read;
+      if (length < buffer.length) continue;
+      count += pattern.forEach(buffer, 0, length, index -> consumer.accept(base[0] + index));
+      // Keep the tail which may still be the start of a match crossing into the next chunk
+      System.arraycopy(buffer, length - carry, buffer, 0, carry);
+      base[0] += length - carry;
+      length = carry;
+    }
+    count += pattern.forEach(buffer, 0, length, index -> consumer.accept(base[0] + index));
+    return count;
+  }
+
+  /**
+   * Decodes channel with charset and searches the resulting characters
+   *
+   * @param channel the bytes being searched in, read to the end but not closed
+   * @param charset the encoding of channel
+   * @param consumer receives the absolute stream offset, in chars, of each occurrence
+   * @return the number of occurrences
+   */
+  public long search(ReadableByteChannel channel, Charset charset, LongConsumer consumer)
+      throws IOException {
+    return search(Channels.newReader(channel, charset.newDecoder(), bufferSize), consumer);
+  }
+}
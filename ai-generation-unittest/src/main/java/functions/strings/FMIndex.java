@@ -0,0 +1,271 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * FM-index for full-text search in little memory. The index stores the Burrows-Wheeler transform of
+ * the text in a wavelet matrix, about log(sigma) bits per character, plus one sampled suffix array
+ * entry every sampleRate text positions. Count queries use backward search in O(m log sigma) and
+ * locate queries walk LF-mappings back to the nearest sample, without ever decompressing the text.
+ *
+ * <p>An index can be saved to a file and loaded back by memory-mapping it. Loading only reads a
+ * small header, so a service can start searching within milliseconds instead of rebuilding.
+ */
+package functions.strings;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class FMIndex {
+
+  public static final int DEFAULT_SAMPLE_RATE = 32;
+
+  private static final long MAGIC = 0x31584544_4E494D46L; // "FMINDEX1"
+
+  private final int length;
+  private final int sampleRate;
+
+  // Distinct characters of the text in increasing order, the sentinel is symbol 0 and symbols[i]
+  // is encoded as symbol i + 1
+  private final char[] symbols;
+
+  // counts[c] is the number of symbols smaller than c in the text including the sentinel
+  private final int[] counts;
+
+  private final WaveletMatrix bwt;
+
+  // Rows whose suffix array value is a multiple of sampleRate, and those values in row order
+  private final RankBitVector sampledRows;
+  private final IntBuffer samples;
+
+  public FMIndex(String text) {
+    this(text, DEFAULT_SAMPLE_RATE);
+  }
+
+  /**
+   * Builds the index
+   *
+   * @param text the text being indexed, must not be null
+   * @param sampleRate the distance between sampled text positions, trading locate speed for memory
+   */
+  public FMIndex(String text, int sampleRate) {
+    if (text == null) throw new IllegalArgumentException("text cannot be null");
+    if (sampleRate <= 0) throw new IllegalArgumentException("sampleRate must be positive");
+    this.length = text.length();
+    this.sampleRate = sampleRate;
+
+    char[] chars = text.toCharArray();
+    boolean[] seen = new boolean[Character.MAX_VALUE + 1];
+    int distinct = 0;
+    for (char c : chars) {
+      if (!seen[c]) {
+        seen[c] = true;
+        distinct++;
+      }
+    }
+    this.symbols = new char[distinct];
+    for (int c = 0, k = 0; k < distinct; c++) if (seen[c]) symbols[k++] = (char) c;
+
+    // The suffix array of text + sentinel, whose first row is the sentinel suffix. Every entry is
+    // replaced by the encoded BWT symbol of its row once sampled, so the transform needs no array
+    // of its own and the wavelet matrix reads it in place.
+    int[] sa = SuffixArrayIndex.buildSuffixArray(chars, length);
+    int rows = length + 1;
+    int[] frequencies = new int[distinct + 1];
+    long[] sampledWords = new long[RankBitVector.wordCount(rows)];
+    int[] sampleValues = new int[length / sampleRate + 1];
+    int sampleCount = 0;
+    int first = length == 0 ? 0 : encode(chars[length - 1]);
+    for (int row = 0; row < rows; row++) {
+      int position = row == 0 ? length : sa[row - 1];
+      int symbol = row == 0 ? first : position == 0 ? 0 : encode(chars[position - 1]);
+      if (row > 0) sa[row - 1] = symbol;
+      frequencies[symbol]++;
+      if (position % sampleRate == 0) {
+        sampledWords[row >>> 6] |= 1L << row;
+        sampleValues[sampleCount++] = position;
+      }
+    }
+    this.counts = new int[distinct + 2];
+    for (int c = 0; c <= distinct; c++) counts[c + 1] = counts[c] + frequencies[c];
+    this.bwt = new WaveletMatrix(rows, row -> row == 0 ? first : sa[row - 1], distinct + 1);
+    this.sampledRows = new RankBitVector(sampledWords, rows);
+    this.samples = IntBuffer.wrap(Arrays.copyOf(sampleValues, sampleCount));
+  }
+
+  private FMIndex(
+      int length,
+      int sampleRate,
+      char[] symbols,
+      int[] counts,
+      WaveletMatrix bwt,
+      RankBitVector sampledRows,
+      IntBuffer samples) {
+    this.length = length;
+    this.sampleRate = sampleRate;
+    this.symbols = symbols;
+    this.counts = counts;
+    this.bwt = bwt;
+    this.sampledRows = sampledRows;
+    this.samples = samples;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  /**
+   * @param pattern the string being searched for
+   * @return the number of occurrences of pattern in the text
+   */
+  public int count(String pattern) {
+    long range = backwardSearch(pattern);
+    return (int) (range >>> 32) - (int) range;
+  }
+
+  /**
+   * @param pattern the string being searched for
+   * @return the indexes where pattern occurs, in increasing order
+   */
+  public int[] locate(String pattern) {
+    long range = backwardSearch(pattern);
+    int from = (int) range, to = (int) (range >>> 32);
+    int[] occurrences = new int[to - from];
+    for (int row = from; row < to; row++) {
+      int steps = 0;
+      int current = row;
+      while (!sampledRows.get(current)) {
+        int symbol = bwt.access(current);
+        current = counts[symbol] + bwt.rank(symbol, current);
+        steps++;
+      }
+      occurrences[row - from] = samples.get(sampledRows.rank1(current)) + steps;
+    }
+    Arrays.sort(occurrences);
+    return occurrences;
+  }
+
+  // Returns the rows [from, to) of suffixes starting with pattern packed as to << 32 | from
+  private long backwardSearch(String pattern) {
+    if (pattern == null || pattern.isEmpty()) return 0;
+    int from = 0, to = length + 1;
+    for (int i = pattern.length() - 1; i >= 0 && from < to; i--) {
+      int symbol = encode(pattern.charAt(i));
+      if (symbol < 0) return 0;
+      from = counts[symbol] + bwt.rank(symbol, from);
+      to = counts[symbol] + bwt.rank(symbol, to);
+    }
+    return from < to ? ((long) to << 32) | from : 0;
+  }
+
+  // The symbol of c, or -1 if c does not occur in the text
+  private int encode(char c) {
+    int index = Arrays.binarySearch(symbols, c);
+    return index < 0 ? -1 : index + 1;
+  }
+
+  /**
+   * Writes the index to file, which is created or replaced. The file is memory-mapped in one
+   * piece, so an index larger than 2 GB is refused rather than written, which only long texts over
+   * large alphabets reach.
+   *
+   * @param file the destination, later passed to load
+   * @throws IOException if the file cannot be written or the index is larger than 2 GB
+   */
+  public void save(Path file) throws IOException {
+    long size =
+        24L
+            + 8L * ((symbols.length + 3) / 4)
+            + 8L * ((counts.length + 1) / 2)
+            + bwt.byteSize()
+            + sampledRows.byteSize()
+            + 8L * ((samples.capacity() + 1) / 2);
+    if (size > Integer.MAX_VALUE) throw new IOException("index is larger than 2 GB");
+    try (FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      out.order(ByteOrder.LITTLE_ENDIAN);
+      out.putLong(MAGIC).putInt(length).putInt(sampleRate);
+      out.putInt(symbols.length).putInt(samples.capacity());
+      for (char symbol : symbols) out.putShort((short) symbol);
+      pad(out);
+      for (int count : counts) out.putInt(count);
+      pad(out);
+      bwt.writeTo(out);
+      sampledRows.writeTo(out);
+      for (int i = 0; i < samples.capacity(); i++) out.putInt(samples.get(i));
+      pad(out);
+      out.force();
+    }
+  }
+
+  /**
+   * Maps an index written by save. The bit vectors and samples are read straight from the mapping,
+   * so only the header and alphabet are copied to the heap.
+   *
+   * @param file the file written by save
+   * @return the loaded index
+   */
+  public static FMIndex load(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      in.order(ByteOrder.LITTLE_ENDIAN);
+      if (in.getLong() != MAGIC) throw new IOException("not an FM-index file: " + file);
+      int length = in.getInt();
+      int sampleRate = in.getInt();
+      char[] symbols = new char[in.getInt()];
+      int sampleCount = in.getInt();
+      for (int i = 0; i < symbols.length; i++) symbols[i] = (char) in.getShort();
+      skipPadding(in);
+      int[] counts = new int[symbols.length + 2];
+      for (int i = 0; i < counts.length; i++) counts[i] = in.getInt();
+      skipPadding(in);
+      WaveletMatrix bwt = WaveletMatrix.readFrom(in);
+      RankBitVector sampledRows = RankBitVector.readFrom(in);
+      IntBuffer samples = RankBitVector.view(in, 4 * sampleCount).asIntBuffer();
+      return new FMIndex(length, sampleRate, symbols, counts, bwt, sampledRows, samples);
+    }
+  }
+
+  // Keeps every section 8-byte aligned
+  private static void pad(ByteBuffer out) {
+    while (out.position() % 8 != 0) out.put((byte) 0);
+  }
+
+  private static void skipPadding(ByteBuffer in) {
+    in.position((in.position() + 7) & ~7);
+  }
+}
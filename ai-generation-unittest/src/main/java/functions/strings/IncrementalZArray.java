@@ -0,0 +1,133 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Z-array of a string which grows one character at a time. Rerunning ZAlgorithm.calculateZ after
+ * every append is quadratic overall, whereas this structure does amortized O(1) work per appended
+ * character and answers Z-value queries in O(1).
+ *
+ * <p>A position i is open while text[i, n) is still a prefix of the text, that is while n - i is a
+ * border of the text; its Z-value is then n - i. All other positions are closed and their Z-value
+ * never changes again. Appending c closes exactly the open positions whose border is not followed
+ * by c. Those are found by walking the border chain with skip links which jump over borders
+ * followed by c, so every step of the walk closes a position and each position closes only once.
+ */
+package functions.strings;
+
+import java.util.Arrays;
+
+public class IncrementalZArray {
+
+  private static final int OPEN = -1;
+
+  private char[] text = new char[16];
+
+  // border[k] is the length of the longest proper border of text[0, k)
+  private int[] border = new int[17];
+
+  // skip[k] is the longest border of text[0, k) followed by a character other than text[k], or 0
+  private int[] skip = new int[16];
+
+  // The final Z-value of every closed position, OPEN for open ones
+  private int[] z = new int[16];
+
+  private int n;
+
+  /**
+   * Appends a character and updates every Z-value it affects
+   *
+   * @param c the character appended to the end of the text
+   */
+  public void append(char c) {
+    ensureCapacity(n + 1);
+    if (n > 0) {
+      // Close the open positions whose border is not extended by c
+      for (int b = border[n]; b > 0; ) {
+        if (text[b] != c) {
+          z[n - b] = b;
+          b = border[b];
+        } else {
+          b = skip[b];
+        }
+      }
+      z[n] = text[0] == c ? OPEN : 0;
+      int p = border[n];
+      skip[n] = text[p] != c ? p : skip[p];
+    }
+    text[n] = c;
+
+    // Extend the border of the whole text like the online prefix function
+    int b = border[n];
+    while (b > 0 && text[b] != c) b = border[b];
+    border[n + 1] = (n > 0 && text[b] == c) ? b + 1 : 0;
+    n++;
+  }
+
+  /**
+   * Appends every character of s
+   *
+   * @param s the characters appended to the end of the text
+   */
+  public void append(CharSequence s) {
+    for (int i = 0; i < s.length(); i++) append(s.charAt(i));
+  }
+
+  public int length() {
+    return n;
+  }
+
+  /**
+   * @param i a position of the text
+   * @return the length of the longest common prefix of the text and its suffix starting at i
+   */
+  public int z(int i) {
+    if (i < 0 || i >= n) throw new IndexOutOfBoundsException("position " + i + " of " + n);
+    if (i == 0) return n;
+    return z[i] == OPEN ? n - i : z[i];
+  }
+
+  /**
+   * @return the Z-array of the current text, equal to ZAlgorithm.calculateZ of the text
+   */
+  public int[] toArray() {
+    int[] result = new int[n];
+    for (int i = 0; i < n; i++) result[i] = z(i);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return new String(text, 0, n);
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= text.length) return;
+    int size = Math.max(capacity, text.length * 2);
+    text = Arrays.copyOf(text, size);
+    border = Arrays.copyOf(border, size + 1);
+    skip = Arrays.copyOf(skip, size);
+    z = Arrays.copyOf(z, size);
+  }
+}
@@ -0,0 +1,222 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Periodicity queries on keys: the smallest period, every border and whether a key is a power of a
+ * shorter string. All of them are read off the Z-array, since i + Z[i] == n exactly when the key
+ * has period i, equivalently a border of length n - i. Each query is O(n).
+ *
+ * <p>An analyzer keeps one char and one int workspace which grow to the longest key seen, so batch
+ * calls over String[] or char[][] allocate nothing per key. Instances are therefore not thread
+ * safe; the parallel batch methods split the keys into chunks, each analysed by its own instance.
+ */
+package functions.strings;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class PeriodicityAnalyzer {
+
+  // Keys handed to one analyzer by the parallel batch methods
+  private static final int PARALLEL_CHUNK_SIZE = 1 << 14;
+
+  private final ZAlgorithm zAlgorithm = new ZAlgorithm();
+  private char[] chars = new char[16];
+  private int[] z = new int[16];
+
+  /**
+   * @return the smallest p > 0 such that key[i] == key[i + p] for every valid i, which is
+   *     key.length() when the key has no proper border, and 0 for the empty key
+   */
+  public int smallestPeriod(String key) {
+    int n = load(key);
+    return smallestPeriod(chars, 0, n);
+  }
+
+  /**
+   * Like smallestPeriod(String), for the key text[offset, offset + length). The Z-array is built
+   * only up to the first i reaching the end of the key, which is the answer.
+   */
+  public int smallestPeriod(char[] text, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > text.length - length) {
+      throw new IndexOutOfBoundsException("key is outside of text");
+    }
+    int[] Z = workspace(length);
+    int L = 0, R = 0;
+    for (int i = 1; i < length; i++) {
+      int z = 0;
+      if (i < R) z = Math.min(R - i, Z[i - L]);
+      while (i + z < length && text[offset + z] == text[offset + i + z]) z++;
+      if (i + z == length) return i;
+      Z[i] = z;
+      if (i + z > R) {
+        L = i;
+        R = i + z;
+      }
+    }
+    return length;
+  }
+
+  /** @return the lengths of every proper non-empty border of key, longest first */
+  public int[] borders(String key) {
+    int n = load(key);
+    int[] Z = zAlgorithm.calculateZ(chars, 0, n, workspace(n));
+    int count = 0;
+    for (int i = 1; i < n; i++) if (i + Z[i] == n) count++;
+    int[] borders = new int[count];
+    for (int i = 1, k = 0; i < n; i++) if (i + Z[i] == n) borders[k++] = n - i;
+    return borders;
+  }
+
+  /** @return true when key is some shorter string repeated at least twice */
+  public boolean isPower(String key) {
+    int n = load(key);
+    return isPower(smallestPeriod(chars, 0, n), n);
+  }
+
+  /**
+   * @param period the smallest period of a key
+   * @param length the length of the key
+   * @return true when the key is a power, which holds exactly when its smallest period is a proper
+   *     divisor of its length
+   */
+  public static boolean isPower(int period, int length) {
+    return period < length && length % period == 0;
+  }
+
+  /** @return the smallest period of every key, reusing this analyzer's workspace */
+  public int[] smallestPeriods(String[] keys) {
+    int[] periods = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) periods[i] = smallestPeriod(keys[i]);
+    return periods;
+  }
+
+  /** @return the smallest period of every key, reusing this analyzer's workspace */
+  public int[] smallestPeriods(char[][] keys) {
+    int[] periods = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      periods[i] = smallestPeriod(keys[i], 0, keys[i].length);
+    }
+    return periods;
+  }
+
+  /** Like smallestPeriods(String[]), spread over the common fork-join pool */
+  public static int[] smallestPeriodsParallel(String[] keys) {
+    int[] periods = new int[keys.length];
+    forEachChunk(keys.length, (analyzer, i) -> periods[i] = analyzer.smallestPeriod(keys[i]));
+    return periods;
+  }
+
+  /** Like smallestPeriods(char[][]), spread over the common fork-join pool */
+  public static int[] smallestPeriodsParallel(char[][] keys) {
+    int[] periods = new int[keys.length];
+    forEachChunk(
+        keys.length,
+        (analyzer, i) -> periods[i] = analyzer.smallestPeriod(keys[i], 0, keys[i].length));
+    return periods;
+  }
+
+  private interface KeyTask {
+    void run(PeriodicityAnalyzer analyzer, int key);
+  }
+
+  private static void forEachChunk(int keyCount, KeyTask task) {
+    int chunks = (keyCount + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+    IntStream.range(0, chunks)
+        .parallel()
+        .forEach(
+            chunk -> {
+              PeriodicityAnalyzer analyzer = new PeriodicityAnalyzer();
+              int end = Math.min(keyCount, (chunk + 1) * PARALLEL_CHUNK_SIZE);
+              for (int i = chunk * PARALLEL_CHUNK_SIZE; i < end; i++) task.run(analyzer, i);
+            });
+  }
+
+  // Copies key into the char workspace and returns its length
+  private int load(String key) {
+    if (key == null) throw new IllegalArgumentException("key cannot be null");
+    int n = key.length();
+    if (chars.length < n) chars = new char[Math.max(n, 2 * chars.length)];
+    key.getChars(0, n, chars, 0);
+    return n;
+  }
+
+  private int[] workspace(int length) {
+    if (z.length < length) z = new int[Math.max(length, 2 * z.length)];
+    return z;
+  }
+
+  // Compares the analyzer, sequential and parallel, against trying every period directly, on
+  // random periodic keys and on zero-padded numeric keys where trying each period scans far
+  public static void main(String[] args) {
+    Random random = new Random(0);
+    String[] periodicKeys = new String[2_000_000];
+    for (int i = 0; i < periodicKeys.length; i++) {
+      char[] key = new char[24 + random.nextInt(41)];
+      int period = 1 + random.nextInt(random.nextBoolean() ? 4 : key.length);
+      for (int j = 0; j < key.length; j++) {
+        key[j] = j < period ? (char) ('a' + random.nextInt(2)) : key[j - period];
+      }
+      periodicKeys[i] = new String(key);
+    }
+    String[] paddedKeys = new String[2_000_000];
+    for (int i = 0; i < paddedKeys.length; i++) {
+      paddedKeys[i] = String.format("%064d", random.nextInt(1_000_000));
+    }
+
+    for (int round = 0; round < 3; round++) {
+      for (String[] keys : new String[][] {periodicKeys, paddedKeys}) {
+        long start = System.nanoTime();
+        int[] naive = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) naive[i] = naivePeriod(keys[i]);
+        long naiveNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int[] sequential = new PeriodicityAnalyzer().smallestPeriods(keys);
+        long sequentialNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int[] parallel = smallestPeriodsParallel(keys);
+        long parallelNanos = System.nanoTime() - start;
+
+        System.out.printf(
+            "%s: naive=%dms analyzer=%dms parallel=%dms (%d threads), agree=%b%n",
+            keys == periodicKeys ? "periodic" : "padded", naiveNanos / 1_000_000,
+            sequentialNanos / 1_000_000, parallelNanos / 1_000_000,
+            Runtime.getRuntime().availableProcessors(),
+            Arrays.equals(naive, sequential) && Arrays.equals(naive, parallel));
+      }
+    }
+  }
+
+  private static int naivePeriod(String key) {
+    int n = key.length();
+    for (int p = 1; p < n; p++) {
+      if (key.regionMatches(0, key, p, n - p)) return p;
+    }
+    return n;
+  }
+}
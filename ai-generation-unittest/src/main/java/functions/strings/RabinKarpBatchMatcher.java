@@ -0,0 +1,256 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Rabin-Karp search for many patterns of the same length at once. The hash of every pattern is
+ * kept in a primitive open-addressing table; the text is scanned with a rolling hash and each
+ * window whose hash is in the table is verified character by character, so collisions never cause
+ * false matches. Hashes are taken modulo the Mersenne prime 2^61 - 1 with a base picked at random
+ * per instance, which keeps the expected number of spurious candidates negligible even for
+ * adversarial text.
+ *
+ * <p>Time complexity O(total pattern length) to build and O(n + matches * m) expected to search,
+ * independent of the number of patterns. A search allocates nothing per window.
+ */
+package functions.strings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RabinKarpBatchMatcher {
+
+  // Receives every occurrence found during a search
+  public interface MatchHandler {
+    /**
+     * @param patternId index of the matched pattern in the array given to the constructor
+     * @param offset index in the text where the occurrence starts
+     */
+    void onMatch(int patternId, int offset);
+  }
+
+  private static final long MOD = (1L << 61) - 1;
+  private static final int NONE = -1;
+
+  private final String[] patterns;
+  private final int m;
+  private final long base;
+
+  // base^(m - 1), used to remove the character leaving the window
+  private final long leadingPower;
+
+  // Open-addressing table: hash + 1 (0 marks a free slot) and the first pattern with that hash
+  private final long[] slotHashes;
+  private final int[] slotFirstPattern;
+  private final int slotMask;
+
+  // The next pattern sharing a hash, chained from slotFirstPattern
+  private final int[] nextPattern;
+
+  // One bit per hash bucket, about 16 bits per pattern. It is small enough to stay in cache, so
+  // most windows are rejected without touching the much larger slot table.
+  private final long[] filter;
+  private final int filterMask;
+
+  /**
+   * @param patterns the patterns to search for, non-empty and of equal length, pattern ids are
+   *     their indexes in this array
+   */
+  public RabinKarpBatchMatcher(String[] patterns) {
+    if (patterns == null || patterns.length == 0) {
+      throw new IllegalArgumentException("patterns cannot be null or empty");
+    }
+    for (String pattern : patterns) {
+      if (pattern == null || pattern.isEmpty() || pattern.length() != patterns[0].length()) {
+        throw new IllegalArgumentException("patterns must be non-empty and of equal length");
+      }
+    }
+    this.patterns = patterns.clone();
+    this.m = patterns[0].length();
+    this.base = ThreadLocalRandom.current().nextLong(1 << 16, MOD - 1);
+    long power = 1;
+    for (int i = 1; i < m; i++) power = mulMod(power, base);
+    this.leadingPower = power;
+
+    int capacity = Integer.highestOneBit(Math.max(2, patterns.length) * 2 - 1) * 2;
+    slotHashes = new long[capacity];
+    slotFirstPattern = new int[capacity];
+    slotMask = capacity - 1;
+    nextPattern = new int[patterns.length];
+    int filterBits = Integer.highestOneBit(Math.min(Math.max(patterns.length, 4) * 16, 1 << 26));
+    filter = new long[filterBits / Long.SIZE];
+    filterMask = filterBits - 1;
+    for (int id = patterns.length - 1; id >= 0; id--) {
+      long hash = hash(patterns[id]);
+      int bit = (int) hash & filterMask;
+      filter[bit >>> 6] |= 1L << bit;
+      int slot = find(hash);
+      if (slotHashes[slot] == 0) {
+        slotHashes[slot] = hash + 1;
+        slotFirstPattern[slot] = NONE;
+      }
+      // Inserting backwards leaves every chain in increasing pattern id order
+      nextPattern[id] = slotFirstPattern[slot];
+      slotFirstPattern[slot] = id;
+    }
+  }
+
+  public int patternCount() {
+    return patterns.length;
+  }
+
+  public int patternLength() {
+    return m;
+  }
+
+  /**
+   * Reports every occurrence of every pattern in text, ordered by offset and then pattern id
+   *
+   * @param text the characters being searched in
+   * @param handler receives the pattern id and start offset of each occurrence
+   * @return the number of occurrences
+   */
+  public int search(CharSequence text, MatchHandler handler) {
+    if (text == null || text.length() < m) return 0;
+    int count = 0;
+    long hash = 0;
+    for (int i = 0; i < m; i++) hash = addMod(mulMod(hash, base), text.charAt(i));
+    for (int offset = 0; ; offset++) {
+      int bit = (int) hash & filterMask;
+      if ((filter[bit >>> 6] & (1L << bit)) != 0) {
+        int slot = find(hash);
+        int id = slotHashes[slot] != 0 ? slotFirstPattern[slot] : NONE;
+        for (; id != NONE; id = nextPattern[id]) {
+          if (matchesAt(text, offset, patterns[id])) {
+            handler.onMatch(id, offset);
+            count++;
+          }
+        }
+      }
+      if (offset + m == text.length()) return count;
+      long leaving = mulMod(text.charAt(offset), leadingPower);
+      hash = addMod(mulMod(addMod(hash, MOD - leaving), base), text.charAt(offset + m));
+    }
+  }
+
+  /**
+   * Collects every occurrence of every pattern in text
+   *
+   * @param text the string being searched in
+   * @return List of {patternId, offset} pairs
+   */
+  public List<int[]> findOccurrences(String text) {
+    List<int[]> occurrences = new ArrayList<>();
+    search(text, (patternId, offset) -> occurrences.add(new int[] {patternId, offset}));
+    return occurrences;
+  }
+
+  // Returns the slot holding hash, or the free slot where it would be inserted
+  private int find(long hash) {
+    int slot = (int) ((hash * 0x9E3779B97F4A7C15L) >>> 40) & slotMask;
+    while (slotHashes[slot] != 0 && slotHashes[slot] != hash + 1) slot = (slot + 1) & slotMask;
+    return slot;
+  }
+
+  private long hash(String pattern) {
+    long hash = 0;
+    for (int i = 0; i < pattern.length(); i++) hash = addMod(mulMod(hash, base), pattern.charAt(i));
+    return hash;
+  }
+
+  private static boolean matchesAt(CharSequence text, int offset, String pattern) {
+    for (int i = 0; i < pattern.length(); i++) {
+      if (text.charAt(offset + i) != pattern.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private static long addMod(long a, long b) {
+    long sum = a + b;
+    return sum >= MOD ? sum - MOD : sum;
+  }
+
+  // a * b mod 2^61 - 1 for a, b < 2^61, splitting both into 31 and 30 bit halves so that no
+  // partial product overflows
+  private static long mulMod(long a, long b) {
+    long aHigh = a >>> 31;
+    long aLow = a & ((1L << 31) - 1);
+    long bHigh = b >>> 31;
+    long bLow = b & ((1L << 31) - 1);
+    long middle = aLow * bHigh + aHigh * bLow;
+    // 2^62 = 2 and 2^61 = 1 modulo 2^61 - 1; the sum may exceed 2^63, so it is read unsigned
+    long result = ((aHigh * bHigh) << 1) + (middle >>> 30) + ((middle & ((1L << 30) - 1)) << 31);
+    result += aLow * bLow;
+    result = (result & MOD) + (result >>> 61);
+    return result >= MOD ? result - MOD : result;
+  }
+
+  // Compares the batch matcher against Aho-Corasick and a HashMap of substrings
+  public static void main(String[] args) {
+    Random random = new Random(0);
+    String text = randomString(random, 1 << 22, 16);
+    int m = 32;
+
+    for (int patternCount : new int[] {10, 1_000, 50_000}) {
+      String[] patterns = new String[patternCount];
+      for (int i = 0; i < patternCount; i++) {
+        int start = random.nextInt(text.length() - m);
+        patterns[i] = i % 2 == 0 ? text.substring(start, start + m) : randomString(random, m, 16);
+      }
+
+      long start = System.nanoTime();
+      int rabinKarpMatches = new RabinKarpBatchMatcher(patterns).search(text, (id, offset) -> {});
+      long rabinKarpNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      int[] automatonMatches = new int[1];
+      new AhoCorasickStringSearch(patterns).search(text, (id, offset) -> automatonMatches[0]++);
+      long automatonNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      Map<String, Integer> lookup = new HashMap<>();
+      for (int i = 0; i < patterns.length; i++) lookup.putIfAbsent(patterns[i], i);
+      int mapMatches = 0;
+      for (int offset = 0; offset + m <= text.length(); offset++) {
+        if (lookup.containsKey(text.substring(offset, offset + m))) mapMatches++;
+      }
+      long mapNanos = System.nanoTime() - start;
+
+      System.out.printf(
+          "patterns=%d rabin-karp=%dms (%d) aho-corasick=%dms (%d) substring map=%dms (%d)%n",
+          patternCount, rabinKarpNanos / 1_000_000, rabinKarpMatches,
+          automatonNanos / 1_000_000, automatonMatches[0], mapNanos / 1_000_000, mapMatches);
+    }
+  }
+
+  private static String randomString(Random random, int length, int alphabetSize) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) chars[i] = (char) ('a' + random.nextInt(alphabetSize));
+    return new String(chars);
+  }
+}
@@ -0,0 +1,378 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Suffix array and LCP array index over a fixed text. The index is built once in O(n log n) by
+ * prefix doubling with counting sort, plus O(n) for the LCP array (Kasai et al.), and then answers
+ * occurrence and count queries for any pattern in O(m log n) without rescanning the text. The index
+ * keeps two int arrays, 8 bytes per character on top of the text itself.
+ */
+package functions.strings;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+public class SuffixArrayIndex {
+
+  private final String text;
+
+  // sa[i] is the start of the i'th smallest suffix of the text
+  private final int[] sa;
+
+  // lcp[i] is the length of the longest common prefix of suffixes sa[i - 1] and sa[i], lcp[0] = 0
+  private final int[] lcp;
+
+  /**
+   * Builds the index
+   *
+   * @param text the text being indexed, must not be null
+   */
+  public SuffixArrayIndex(String text) {
+    if (text == null) throw new IllegalArgumentException("text cannot be null");
+    this.text = text;
+    this.sa = buildSuffixArray(text);
+    this.lcp = buildLcpArray(text, sa);
+  }
+
+  public int length() {
+    return text.length();
+  }
+
+  public int[] suffixArray() {
+    return sa.clone();
+  }
+
+  public int[] lcpArray() {
+    return lcp.clone();
+  }
+
+  /**
+   * @param pattern the string being searched for
+   * @return the number of occurrences of pattern in the text
+   */
+  public int count(String pattern) {
+    if (pattern == null || pattern.isEmpty()) return 0;
+    return upperBound(pattern) - lowerBound(pattern);
+  }
+
+  /**
+   * @param pattern the string being searched for
+   * @return the indexes where pattern occurs, in increasing order
+   */
+  public int[] occurrences(String pattern) {
+    if (pattern == null || pattern.isEmpty()) return new int[0];
+    int lo = lowerBound(pattern);
+    int[] occurrences = Arrays.copyOfRange(sa, lo, upperBound(pattern));
+    Arrays.sort(occurrences);
+    return occurrences;
+  }
+
+  /**
+   * @return the longest substring occurring at least twice in the text, the leftmost in suffix
+   *     order when there are several, or an empty string if no character repeats
+   */
+  public String longestRepeatedSubstring() {
+    int best = 0;
+    for (int i = 1; i < lcp.length; i++) if (lcp[i] > lcp[best]) best = i;
+    return lcp.length == 0 ? "" : text.substring(sa[best], sa[best] + lcp[best]);
+  }
+
+  // First suffix array slot whose suffix is not smaller than pattern
+  private int lowerBound(String pattern) {
+    int lo = 0, hi = sa.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (compare(sa[mid], pattern) < 0) lo = mid + 1;
+      else hi = mid;
+    }
+    return lo;
+  }
+
+  // First suffix array slot whose suffix neither starts with nor is smaller than pattern
+  private int upperBound(String pattern) {
+    int lo = 0, hi = sa.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (compare(sa[mid], pattern) <= 0) lo = mid + 1;
+      else hi = mid;
+    }
+    return lo;
+  }
+
+  // Compares the suffix starting at suffix with pattern, treating a suffix which starts with
+  // pattern as equal
+  private int compare(int suffix, String pattern) {
+    int length = Math.min(text.length() - suffix, pattern.length());
+    for (int i = 0; i < length; i++) {
+      char a = text.charAt(suffix + i), b = pattern.charAt(i);
+      if (a != b) return a < b ? -1 : 1;
+    }
+    return length == pattern.length() ? 0 : -1;
+  }
+
+  // Sorts the cyclic shifts of text + sentinel by prefix doubling, where the sentinel is smaller
+  // than every character so sorting the shifts sorts the suffixes
+  static int[] buildSuffixArray(String text) {
+    int n = text.length() + 1;
+    int[] p = new int[n], c = new int[n], pn = new int[n], cn = new int[n];
+    int[] count = new int[Math.max(Character.MAX_VALUE + 2, n)];
+
+    for (int i = 0; i < n; i++) count[symbol(text, i)]++;
+    for (int i = 1; i < Character.MAX_VALUE + 2; i++) count[i] += count[i - 1];
+    for (int i = n - 1; i >= 0; i--) p[--count[symbol(text, i)]] = i;
+    int classes = 1;
+    for (int i = 1; i < n; i++) {
+      if (symbol(text, p[i]) != symbol(text, p[i - 1])) classes++;
+      c[p[i]] = classes - 1;
+    }
+
+    for (int k = 1; k < n && classes < n; k <<= 1) {
+      // Shifts sorted by their second half, then stably sorted by their first half
+      for (int i = 0; i < n; i++) {
+        pn[i] = p[i] - k;
+        if (pn[i] < 0) pn[i] += n;
+      }
+      Arrays.fill(count, 0, classes, 0);
+      for (int i = 0; i < n; i++) count[c[pn[i]]]++;
+      for (int i = 1; i < classes; i++) count[i] += count[i - 1];
+      for (int i = n - 1; i >= 0; i--) p[--count[c[pn[i]]]] = pn[i];
+
+      cn[p[0]] = 0;
+      classes = 1;
+      for (int i = 1; i < n; i++) {
+        int cur = p[i], prev = p[i - 1];
+        if (c[cur] != c[prev] || c[(cur + k) % n] != c[(prev + k) % n]) classes++;
+        cn[cur] = classes - 1;
+      }
+      int[] swap = c;
+      c = cn;
+      cn = swap;
+    }
+    // Drop the sentinel suffix, which always sorts first
+    return Arrays.copyOfRange(p, 1, n);
+  }
+
+  // Sorts the suffixes of text[0, length) in O(n + sigma) by induced sorting (SA-IS, Nong et al.),
+  // where sigma is one more than the largest char of the text. Apart from the returned array it
+  // allocates only a type bit per character and the buckets, as the reduced problem is solved
+  // inside the returned array.
+  static int[] buildSuffixArray(char[] text, int length) {
+    int upper = 0;
+    for (int i = 0; i < length; i++) upper = Math.max(upper, text[i]);
+    int[] sa = new int[length];
+    inducedSort(i -> text[i], length, upper, sa, 0);
+    return sa;
+  }
+
+  // Sorts the suffixes of s[0, n), symbols in [0, upper], into sa[offset, offset + n). Suffixes
+  // starting at LMS positions (an S-type suffix preceded by an L-type one) are sorted first,
+  // recursively on the string of their substring names, and then induce the order of all L-type
+  // and all S-type suffixes.
+  private static void inducedSort(IntUnaryOperator s, int n, int upper, int[] sa, int offset) {
+    if (n <= 2) {
+      if (n == 1) sa[offset] = 0;
+      if (n == 2) {
+        boolean ordered = s.applyAsInt(0) < s.applyAsInt(1);
+        sa[offset] = ordered ? 0 : 1;
+        sa[offset + 1] = ordered ? 1 : 0;
+      }
+      return;
+    }
+    // Bit i is set when the suffix at i is S-type, the last suffix is L-type
+    long[] sType = new long[(n + 63) >>> 6];
+    for (int i = n - 2; i >= 0; i--) {
+      int a = s.applyAsInt(i), b = s.applyAsInt(i + 1);
+      if (a < b || (a == b && isSet(sType, i + 1))) sType[i >>> 6] |= 1L << i;
+    }
+    int[] counts = new int[upper + 1];
+    for (int i = 0; i < n; i++) counts[s.applyAsInt(i)]++;
+    int[] bucket = new int[upper + 1];
+
+    // Place the LMS suffixes in text order at the ends of their buckets and induce
+    Arrays.fill(sa, offset, offset + n, -1);
+    bucketEnds(counts, bucket);
+    for (int i = 1; i < n; i++) {
+      if (isLms(sType, i)) sa[offset + --bucket[s.applyAsInt(i)]] = i;
+    }
+    induce(s, n, sa, offset, sType, counts, bucket);
+
+    // Compact the now sorted LMS suffixes into sa[0, m)
+    int m = 0;
+    for (int i = 0; i < n; i++) {
+      int suffix = sa[offset + i];
+      if (isLms(sType, suffix)) sa[offset + m++] = suffix;
+    }
+    if (m == 0) return;
+
+    // Name the LMS substrings into sa[m + position / 2], then gather the names in text order
+    // into sa[n - m, n), which is the reduced string
+    Arrays.fill(sa, offset + m, offset + n, -1);
+    int names = 0;
+    for (int i = 0, previous = -1; i < m; i++) {
+      int suffix = sa[offset + i];
+      if (previous < 0 || !equalLmsSubstrings(s, n, sType, previous, suffix)) names++;
+      previous = suffix;
+      sa[offset + m + (suffix >>> 1)] = names - 1;
+    }
+    for (int i = n - 1, j = n - 1; i >= m; i--) {
+      if (sa[offset + i] >= 0) sa[offset + j--] = sa[offset + i];
+    }
+    int reduced = offset + n - m;
+    if (names < m) {
+      inducedSort(k -> sa[reduced + k], m, names - 1, sa, offset);
+    } else {
+      for (int k = 0; k < m; k++) sa[offset + sa[reduced + k]] = k;
+    }
+
+    // Map the order of the reduced suffixes back to LMS positions, place them at the ends of
+    // their buckets and induce the final order
+    for (int i = 1, j = reduced; i < n; i++) if (isLms(sType, i)) sa[j++] = i;
+    for (int i = 0; i < m; i++) sa[offset + i] = sa[reduced + sa[offset + i]];
+    Arrays.fill(sa, offset + m, offset + n, -1);
+    bucketEnds(counts, bucket);
+    for (int i = m - 1; i >= 0; i--) {
+      int suffix = sa[offset + i];
+      sa[offset + i] = -1;
+      sa[offset + --bucket[s.applyAsInt(suffix)]] = suffix;
+    }
+    induce(s, n, sa, offset, sType, counts, bucket);
+  }
+
+  // Induces L-type suffixes left to right from bucket starts, then S-type suffixes right to left
+  // from bucket ends. The last suffix, which is L-type and the smallest of its bucket, seeds the
+  // first pass.
+  private static void induce(
+      IntUnaryOperator s, int n, int[] sa, int offset, long[] sType, int[] counts, int[] bucket) {
+    bucketStarts(counts, bucket);
+    sa[offset + bucket[s.applyAsInt(n - 1)]++] = n - 1;
+    for (int i = 0; i < n; i++) {
+      int v = sa[offset + i] - 1;
+      if (v >= 0 && !isSet(sType, v)) sa[offset + bucket[s.applyAsInt(v)]++] = v;
+    }
+    bucketEnds(counts, bucket);
+    for (int i = n - 1; i >= 0; i--) {
+      int v = sa[offset + i] - 1;
+      if (v >= 0 && isSet(sType, v)) sa[offset + --bucket[s.applyAsInt(v)]] = v;
+    }
+  }
+
+  // LMS substrings are equal when they have the same symbols and types up to and including the
+  // next LMS position. A substring running into the end of the text equals no other.
+  private static boolean equalLmsSubstrings(
+      IntUnaryOperator s, int n, long[] sType, int a, int b) {
+    for (int d = 0; ; d++) {
+      if (a + d == n || b + d == n) return false;
+      if (s.applyAsInt(a + d) != s.applyAsInt(b + d)
+          || isSet(sType, a + d) != isSet(sType, b + d)) {
+        return false;
+      }
+      if (d > 0) {
+        boolean endA = isLms(sType, a + d), endB = isLms(sType, b + d);
+        if (endA || endB) return endA && endB;
+      }
+    }
+  }
+
+  private static boolean isSet(long[] bits, int i) {
+    return (bits[i >>> 6] & (1L << i)) != 0;
+  }
+
+  private static boolean isLms(long[] sType, int i) {
+    return i > 0 && isSet(sType, i) && !isSet(sType, i - 1);
+  }
+
+  private static void bucketStarts(int[] counts, int[] bucket) {
+    for (int c = 0, sum = 0; c < counts.length; c++) {
+      bucket[c] = sum;
+      sum += counts[c];
+    }
+  }
+
+  private static void bucketEnds(int[] counts, int[] bucket) {
+    for (int c = 0, sum = 0; c < counts.length; c++) {
+      sum += counts[c];
+      bucket[c] = sum;
+    }
+  }
+
+  private static int symbol(String text, int i) {
+    return i == text.length() ? 0 : text.charAt(i) + 1;
+  }
+
+  // Kasai's algorithm
+  private static int[] buildLcpArray(String text, int[] sa) {
+    int n = sa.length;
+    int[] rank = new int[n];
+    for (int i = 0; i < n; i++) rank[sa[i]] = i;
+    int[] lcp = new int[n];
+    for (int i = 0, h = 0; i < n; i++) {
+      if (rank[i] == 0) {
+        h = 0;
+        continue;
+      }
+      int j = sa[rank[i] - 1];
+      while (i + h < n && j + h < n && text.charAt(i + h) == text.charAt(j + h)) h++;
+      lcp[rank[i]] = h;
+      if (h > 0) h--;
+    }
+    return lcp;
+  }
+
+  // Compares indexed queries against running BoyerMooreStringSearch once per query
+  public static void main(String[] args) {
+    Random random = new Random(0);
+    char[] chars = new char[1 << 20];
+    for (int i = 0; i < chars.length; i++) chars[i] = (char) ('a' + random.nextInt(4));
+    String text = new String(chars);
+    String[] queries = new String[10_000];
+    for (int i = 0; i < queries.length; i++) {
+      int start = random.nextInt(text.length() - 12);
+      queries[i] = text.substring(start, start + 12);
+    }
+
+    long start = System.nanoTime();
+    SuffixArrayIndex index = new SuffixArrayIndex(text);
+    long buildNanos = System.nanoTime() - start;
+    start = System.nanoTime();
+    long indexMatches = 0;
+    for (String query : queries) indexMatches += index.count(query);
+    long indexNanos = System.nanoTime() - start;
+
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    start = System.nanoTime();
+    long boyerMooreMatches = 0;
+    for (int i = 0; i < 100; i++) {
+      boyerMooreMatches += boyerMoore.findOccurrences(text, queries[i]).size();
+    }
+    long boyerMooreNanos = (System.nanoTime() - start) * (queries.length / 100);
+
+    System.out.printf(
+        "build=%dms, %d queries: index=%dms (%d matches) boyer-moore=~%dms (extrapolated from"
+            + " 100 queries, %d matches)%n",
+        buildNanos / 1_000_000, queries.length, indexNanos / 1_000_000, indexMatches,
+        boyerMooreNanos / 1_000_000, boyerMooreMatches);
+  }
+}
@@ -0,0 +1,87 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Open-addressing hash table from symbols to their last index in a pattern, used by the
+ * bad-character tables for the symbols their flat arrays do not cover. It grows with the distinct
+ * symbols put into it, keeping the load factor at or below one half, so repeated symbols never
+ * enlarge it.
+ */
+package functions.strings;
+
+final class SymbolIndexTable {
+
+  private static final int ABSENT = -1;
+  private static final int INITIAL_CAPACITY = 4;
+
+  // Both arrays stay null until the first put. Any long is a valid key, so a slot is empty when its
+  // stored index + 1 is 0.
+  private long[] keys;
+  private int[] lastIndexPlusOne;
+  private int size;
+
+  // Records index as the last index of symbol
+  void put(long symbol, int index) {
+    if (keys == null) resize(INITIAL_CAPACITY);
+    else if (2 * (size + 1) > keys.length) resize(2 * keys.length);
+    int slot = slot(keys, lastIndexPlusOne, symbol);
+    if (lastIndexPlusOne[slot] == 0) {
+      keys[slot] = symbol;
+      size++;
+    }
+    lastIndexPlusOne[slot] = index + 1;
+  }
+
+  // Returns the last index recorded for symbol, or -1 if it was never put
+  int get(long symbol) {
+    if (keys == null) return ABSENT;
+    return lastIndexPlusOne[slot(keys, lastIndexPlusOne, symbol)] - 1;
+  }
+
+  private void resize(int capacity) {
+    long[] newKeys = new long[capacity];
+    int[] newIndexes = new int[capacity];
+    for (int i = 0; keys != null && i < keys.length; i++) {
+      if (lastIndexPlusOne[i] == 0) continue;
+      int slot = slot(newKeys, newIndexes, keys[i]);
+      newKeys[slot] = keys[i];
+      newIndexes[slot] = lastIndexPlusOne[i];
+    }
+    keys = newKeys;
+    lastIndexPlusOne = newIndexes;
+  }
+
+  // The slot holding symbol, or the empty slot where it belongs
+  private static int slot(long[] keys, int[] lastIndexPlusOne, long symbol) {
+    int mask = keys.length - 1;
+    int slot = hash(symbol) & mask;
+    while (lastIndexPlusOne[slot] != 0 && keys[slot] != symbol) slot = (slot + 1) & mask;
+    return slot;
+  }
+
+  private static int hash(long symbol) {
+    return (int) ((symbol * 0x9E3779B97F4A7C15L) >>> 32);
+  }
+}
@@ -0,0 +1,226 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Searches UTF-8 encoded bytes for a string without decoding them. UTF-8 is self-synchronising: a
+ * lead byte never equals a continuation byte, so every byte-level match of a well-formed pattern in
+ * well-formed text starts and ends on a code point boundary and is also a match of the decoded
+ * strings. The search is a plain byte Boyer-Moore, and char offsets, when asked for, are counted
+ * incrementally between matches in UTF-16 units, so that they agree with String indexes.
+ */
+package functions.strings;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+public final class Utf8StringSearch {
+
+  /** Receives both offsets of a match */
+  public interface MatchHandler {
+    void onMatch(int byteOffset, int charOffset);
+  }
+
+  // UTF-16 units contributed by each byte value: none for continuation bytes (10xxxxxx), a
+  // surrogate pair for lead bytes of four byte sequences (11110xxx) and one for the rest. A table
+  // keeps the counting loop free of unpredictable branches on mixed-script text.
+  private static final byte[] CHAR_UNITS = new byte[256];
+
+  static {
+    for (int b = 0; b < 256; b++) {
+      CHAR_UNITS[b] = (byte) ((b & 0xC0) == 0x80 ? 0 : (b & 0xF8) == 0xF0 ? 2 : 1);
+    }
+  }
+
+  private final String pattern;
+  private final BoyerMooreBytePattern bytePattern;
+
+  /**
+   * Encodes and compiles a pattern for repeated searches
+   *
+   * @param pattern the string being searched for, must not be null, empty or contain unpaired
+   *     surrogates
+   */
+  public Utf8StringSearch(String pattern) {
+    if (pattern == null || pattern.isEmpty()) {
+      throw new IllegalArgumentException("pattern cannot be null or empty");
+    }
+    ByteBuffer encoded;
+    try {
+      encoded = StandardCharsets.UTF_8.newEncoder().encode(CharBuffer.wrap(pattern));
+    } catch (CharacterCodingException e) {
+      throw new IllegalArgumentException("pattern is not well-formed UTF-16", e);
+    }
+    byte[] bytes = new byte[encoded.remaining()];
+    encoded.get(bytes);
+    this.pattern = pattern;
+    this.bytePattern = new BoyerMooreBytePattern(bytes);
+  }
+
+  public String pattern() {
+    return pattern;
+  }
+
+  /**
+   * Finds every occurrence of the pattern in UTF-8 text
+   *
+   * @param text the UTF-8 bytes being searched in
+   * @return List of byte offsets where the pattern occurs
+   */
+  public List<Integer> find(byte[] text) {
+    List<Integer> occurrences = new ArrayList<>();
+    if (text != null) bytePattern.forEach(text, 0, text.length, occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Passes the byte offset of every occurrence of the pattern in text[from, to) to consumer
+   *
+   * @param text the UTF-8 bytes being searched in
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param consumer receives the byte offset in text of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(byte[] text, int from, int to, IntConsumer consumer) {
+    return bytePattern.forEach(text, from, to, consumer);
+  }
+
+  /**
+   * Passes the byte offset of every occurrence of the pattern in text[from, to) to consumer.
+   * Reads use absolute positions, so the position and limit of text are left untouched.
+   *
+   * @param text the UTF-8 bytes being searched in, for example a mapped file region
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param consumer receives the byte offset in text of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(ByteBuffer text, int from, int to, IntConsumer consumer) {
+    return bytePattern.forEach(text, from, to, consumer);
+  }
+
+  /**
+   * Passes the byte offset and the char offset of every occurrence of the pattern in text[from,
+   * to) to handler. Char offsets are counted from from in UTF-16 units, so a code point above
+   * U+FFFF counts twice, as it does in a String.
+   *
+   * @param text the UTF-8 bytes being searched in, from must be on a code point boundary
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param handler receives the offsets of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEachWithCharOffsets(byte[] text, int from, int to, MatchHandler handler) {
+    if (text == null) return 0;
+    CharCounter counter = new CharCounter(i -> text[i], from);
+    return bytePattern.forEach(
+        text, from, to, offset -> handler.onMatch(offset, counter.charsBefore(offset)));
+  }
+
+  /**
+   * Passes the byte offset and the char offset of every occurrence of the pattern in text[from,
+   * to) to handler, leaving the position and limit of text untouched
+   *
+   * @param text the UTF-8 bytes being searched in, from must be on a code point boundary
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param handler receives the offsets of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEachWithCharOffsets(ByteBuffer text, int from, int to, MatchHandler handler) {
+    if (text == null) return 0;
+    CharCounter counter = new CharCounter(text::get, from);
+    return bytePattern.forEach(
+        text, from, to, offset -> handler.onMatch(offset, counter.charsBefore(offset)));
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+  // Converts increasing byte offsets to char offsets, scanning each byte once overall
+  private static final class CharCounter {
+    private final IntUnaryOperator bytes;
+    private int position;
+    private int chars;
+
+    CharCounter(IntUnaryOperator bytes, int from) {
+      this.bytes = bytes;
+      this.position = from;
+    }
+
+    int charsBefore(int offset) {
+      for (; position < offset; position++) {
+        chars += CHAR_UNITS[bytes.applyAsInt(position) & 0xFF];
+      }
+      return chars;
+    }
+  }
+
+  // Compares searching the raw bytes against decoding them and calling BoyerMooreStringSearch
+  public static void main(String[] args) {
+    Random random = new Random(0);
+    String[] words = {"hello", "grüße", "привет", "你好", "😀", "world", "naïve"};
+    StringBuilder builder = new StringBuilder();
+    while (builder.length() < 1 << 23) builder.append(words[random.nextInt(words.length)]);
+    byte[] text = builder.toString().getBytes(StandardCharsets.UTF_8);
+    String pattern = "привет你好😀";
+
+    Utf8StringSearch search = new Utf8StringSearch(pattern);
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    for (int round = 0; round < 5; round++) {
+      int[] matches = new int[1];
+      long begin = System.nanoTime();
+      search.forEach(text, 0, text.length, byteOffset -> matches[0]++);
+      long bytesNanos = System.nanoTime() - begin;
+
+      begin = System.nanoTime();
+      search.forEachWithCharOffsets(text, 0, text.length, (byteOffset, charOffset) -> {});
+      long charsNanos = System.nanoTime() - begin;
+
+      begin = System.nanoTime();
+      String decoded = new String(text, StandardCharsets.UTF_8);
+      int decodedMatches = boyerMoore.findOccurrences(decoded, pattern).size();
+      long decodeNanos = System.nanoTime() - begin;
+
+      System.out.printf(
+          "%d bytes: utf-8=%dms with char offsets=%dms decode+search=%dms (%d/%d matches)%n",
+          text.length,
+          bytesNanos / 1_000_000,
+          charsNanos / 1_000_000,
+          decodeNanos / 1_000_000,
+          matches[0],
+          decodedMatches);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Wavelet matrix over a sequence of small non-negative integer symbols. Every level stores one bit
+ * of every symbol in a RankBitVector, so the sequence takes about n * log(sigma) bits while access
+ * and rank queries run in O(log sigma).
+ */
+package functions.strings;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntUnaryOperator;
+
+final class WaveletMatrix {
+
+  private final int length;
+  private final RankBitVector[] levels;
+
+  // The number of zero bits on every level
+  private final int[] zeros;
+
+  /**
+   * @param length the length of the sequence
+   * @param symbols the symbol at every index of the sequence, every value in [0, sigma)
+   * @param sigma the number of distinct symbol values
+   */
+  WaveletMatrix(int length, IntUnaryOperator symbols, int sigma) {
+    this.length = length;
+    int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(sigma - 1));
+    levels = new RankBitVector[bits];
+    zeros = new int[bits];
+    // Level l holds the symbols stably sorted by their top l bits read in reverse, so a symbol's
+    // index on that level is the start of its group plus the number of earlier symbols in the
+    // group. Writing the bits straight to those indexes needs no copy of the sequence.
+    for (int level = 0; level < bits; level++) {
+      int shift = bits - 1 - level;
+      int[] starts = new int[1 << level];
+      int zeroCount = 0;
+      for (int i = 0; i < length; i++) {
+        int symbol = symbols.applyAsInt(i);
+        starts[group(symbol, shift, level)]++;
+        if (((symbol >>> shift) & 1) == 0) zeroCount++;
+      }
+      for (int g = 0, sum = 0; g < starts.length; g++) {
+        int count = starts[g];
+        starts[g] = sum;
+        sum += count;
+      }
+      long[] words = new long[RankBitVector.wordCount(length)];
+      for (int i = 0; i < length; i++) {
+        int symbol = symbols.applyAsInt(i);
+        int index = starts[group(symbol, shift, level)]++;
+        if (((symbol >>> shift) & 1) == 1) words[index >>> 6] |= 1L << index;
+      }
+      levels[level] = new RankBitVector(words, length);
+      zeros[level] = zeroCount;
+    }
+  }
+
+  // The group of symbol on the given level, its top level bits (those above shift) reversed
+  private static int group(int symbol, int shift, int level) {
+    return level == 0 ? 0 : Integer.reverse(symbol >>> (shift + 1)) >>> (32 - level);
+  }
+
+  private WaveletMatrix(int length, RankBitVector[] levels, int[] zeros) {
+    this.length = length;
+    this.levels = levels;
+    this.zeros = zeros;
+  }
+
+  int length() {
+    return length;
+  }
+
+  // The symbol at index i
+  int access(int i) {
+    int symbol = 0;
+    for (int level = 0; level < levels.length; level++) {
+      RankBitVector bits = levels[level];
+      if (bits.get(i)) {
+        symbol = (symbol << 1) | 1;
+        i = zeros[level] + bits.rank1(i);
+      } else {
+        symbol <<= 1;
+        i = bits.rank0(i);
+      }
+    }
+    return symbol;
+  }
+
+  // The number of occurrences of symbol in [0, i)
+  int rank(int symbol, int i) {
+    int lo = 0, hi = i;
+    for (int level = 0; level < levels.length; level++) {
+      RankBitVector bits = levels[level];
+      if (((symbol >>> (levels.length - 1 - level)) & 1) == 1) {
+        lo = zeros[level] + bits.rank1(lo);
+        hi = zeros[level] + bits.rank1(hi);
+      } else {
+        lo = bits.rank0(lo);
+        hi = bits.rank0(hi);
+      }
+    }
+    return hi - lo;
+  }
+
+  // The number of bytes written by writeTo, a multiple of 8
+  long byteSize() {
+    long size = 8 + 8 * ((levels.length + 1) / 2);
+    for (RankBitVector level : levels) size += level.byteSize();
+    return size;
+  }
+
+  void writeTo(ByteBuffer out) {
+    out.putInt(length).putInt(levels.length);
+    for (int zero : zeros) out.putInt(zero);
+    if (levels.length % 2 != 0) out.putInt(0);
+    for (RankBitVector level : levels) level.writeTo(out);
+  }
+
+  static WaveletMatrix readFrom(ByteBuffer in) {
+    int length = in.getInt();
+    RankBitVector[] levels = new RankBitVector[in.getInt()];
+    int[] zeros = new int[levels.length];
+    for (int i = 0; i < zeros.length; i++) zeros[i] = in.getInt();
+    if (levels.length % 2 != 0) in.getInt();
+    for (int i = 0; i < levels.length; i++) levels[i] = RankBitVector.readFrom(in);
+    return new WaveletMatrix(length, levels, zeros);
+  }
+}
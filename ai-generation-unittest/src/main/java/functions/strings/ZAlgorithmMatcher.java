@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Pattern matcher built on the Z-array of the pattern alone. The usual Z-based matching computes
+ * the Z-array of pattern + separator + text, which copies the whole text and needs an array as long
+ * as the text. Instead, the pattern's Z-array is turned into its border table once, and the text is
+ * then streamed one character at a time, keeping only O(pattern length) state.
+ *
+ * <p>Time complexity O(m) to build and O(n) to search
+ *
+ * <p>When ignoring case, the pattern is folded once and each text character is folded as it is
+ * read, so neither the text nor the stream is copied.
+ */
+package functions.strings;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+public class ZAlgorithmMatcher {
+
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  private final char[] pattern;
+  private final boolean ignoreCase;
+
+  // border[i] is the length of the longest proper border of pattern[0, i]
+  private final int[] border;
+
+  /**
+   * @param pattern the string being searched for, must not be null or empty
+   */
+  public ZAlgorithmMatcher(String pattern) {
+    this(pattern, false);
+  }
+
+  /**
+   * @param pattern the string being searched for, must not be null or empty
+   * @param ignoreCase whether characters are compared after simple case folding
+   */
+  public ZAlgorithmMatcher(String pattern, boolean ignoreCase) {
+    if (pattern == null || pattern.isEmpty()) {
+      throw new IllegalArgumentException("pattern cannot be null or empty");
+    }
+    String needle = ignoreCase ? CaseFolding.fold(pattern) : pattern;
+    this.pattern = needle.toCharArray();
+    this.ignoreCase = ignoreCase;
+    this.border = bordersFromZ(new ZAlgorithm().calculateZ(needle));
+  }
+
+  /**
+   * Finds every occurrence of the pattern in text
+   *
+   * @param text the string being searched in
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> find(String text) {
+    List<Integer> occurrences = new ArrayList<>();
+    forEach(text, occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Passes the index of every occurrence of the pattern in text to consumer
+   *
+   * @param text the characters being searched in
+   * @param consumer receives the index of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(CharSequence text, IntConsumer consumer) {
+    if (text == null) return 0;
+    int count = 0;
+    int matched = 0;
+    for (int i = 0; i < text.length(); i++) {
+      matched = advance(matched, text.charAt(i));
+      if (matched == pattern.length) {
+        consumer.accept(i - matched + 1);
+        count++;
+        matched = border[matched - 1];
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Streams every character of reader, which is read to the end but not closed
+   *
+   * @param reader the characters being searched in
+   * @param consumer receives the absolute stream offset, in chars, of each occurrence
+   * @return the number of occurrences
+   */
+  public long search(Reader reader, LongConsumer consumer) throws IOException {
+    char[] buffer = new char[READ_BUFFER_SIZE];
+    long position = 0;
+    long count = 0;
+    int matched = 0;
+    int read;
+    while ((read = reader.read(buffer)) != -1) {
+      for (int i = 0; i < read; i++, position++) {
+        matched = advance(matched, buffer[i]);
+        if (matched == pattern.length) {
+          consumer.accept(position - matched + 1);
+          count++;
+          matched = border[matched - 1];
+        }
+      }
+    }
+    return count;
+  }
+
+  // Returns the length of the longest prefix of the pattern which is a suffix of the text read so
+  // far, given that it was matched before c was read
+  private int advance(int matched, char c) {
+    if (ignoreCase) c = CaseFolding.fold(c);
+    while (matched > 0 && pattern[matched] != c) matched = border[matched - 1];
+    return pattern[matched] == c ? matched + 1 : matched;
+  }
+
+  // Every i with Z[i] > 0 is the start of the borders pattern[0, j] of the prefixes ending at
+  // i + j, for j < Z[i]. Walking j downwards and stopping at the first assigned entry visits every
+  // entry once, keeping this O(m).
+  private static int[] bordersFromZ(int[] Z) {
+    int[] border = new int[Z.length];
+    for (int i = 1; i < Z.length; i++) {
+      for (int j = Z[i] - 1; j >= 0 && border[i + j] == 0; j--) {
+        border[i + j] = j + 1;
+      }
+    }
+    return border;
+  }
+}
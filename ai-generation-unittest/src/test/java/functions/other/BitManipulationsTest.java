@@ -188,4 +188,52 @@ class BitManipulationsTest {
     // Assert
     assertFalse(result, "Expected -8 to not be a power of two");
   }
+
+  /**
+   * Tests setBit method to set a bit above 31 in a 64-bit set.
+   */
+  @Test
+  void shouldSetHighBitWhenGivenLongSet() {
+    // Arrange
+    long value = 0L;
+    int position = 63;
+
+    // Act
+    long result = BitManipulations.setBit(value, position);
+
+    // Assert
+    assertEquals(Long.MIN_VALUE, result, "Expected bit at position 63 to be set");
+  }
+
+  /**
+   * Tests isSet method on a bit above 31 in a 64-bit set.
+   */
+  @Test
+  void shouldReturnTrueWhenHighBitIsSetInLongSet() {
+    // Arrange
+    long value = 1L << 40;
+    int position = 40;
+
+    // Act
+    boolean result = BitManipulations.isSet(value, position);
+
+    // Assert
+    assertTrue(result, "Expected bit at position 40 to be set");
+  }
+
+  /**
+   * Tests clearBit method to clear a bit above 31 in a 64-bit set.
+   */
+  @Test
+  void shouldClearHighBitWhenGivenLongSet() {
+    // Arrange
+    long value = -1L;
+    int position = 63;
+
+    // Act
+    long result = BitManipulations.clearBit(value, position);
+
+    // Assert
+    assertEquals(Long.MAX_VALUE, result, "Expected bit at position 63 to be cleared");
+  }
 }
@@ -0,0 +1,230 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveStringSearch class.
+ */
+class AdaptiveStringSearchTest {
+
+  /**
+   * Tests that findOccurrences returns correct indexes when the pattern is found.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenPatternIsFound() {
+    // Arrange
+    StringSearcher searcher = new AdaptiveStringSearch();
+
+    // Act
+    List<Integer> result = searcher.findOccurrences("ABABAAABAABAB", "AA");
+
+    // Assert
+    assertEquals(Arrays.asList(4, 5, 8), result, "Expected correct indexes for the pattern");
+  }
+
+  /**
+   * Tests that findOccurrences returns an empty list when the pattern is null.
+   */
+  @Test
+  void shouldReturnEmptyListWhenPatternIsNull() {
+    // Arrange
+    StringSearcher searcher = new AdaptiveStringSearch();
+
+    // Act
+    List<Integer> result = searcher.findOccurrences("ABABAAABAABAB", null);
+
+    // Assert
+    assertTrue(result.isEmpty(), "Expected no occurrences for a null pattern");
+  }
+
+  /**
+   * Tests that Boyer-Moore is chosen when the text is too short to amortise preprocessing.
+   */
+  @Test
+  void shouldChooseBoyerMooreWhenTextIsShort() {
+    // Arrange
+    AdaptiveStringSearch searcher = new AdaptiveStringSearch();
+
+    // Act
+    AdaptiveStringSearch.Strategy strategy = searcher.strategyFor("acgtacgt", "acg");
+
+    // Assert
+    assertEquals(AdaptiveStringSearch.Strategy.BOYER_MOORE, strategy, "Expected Boyer-Moore");
+  }
+
+  /**
+   * Tests that Bitap is chosen for a short pattern over a small alphabet.
+   */
+  @Test
+  void shouldChooseBitapWhenAlphabetIsSmall() {
+    // Arrange
+    AdaptiveStringSearch searcher = new AdaptiveStringSearch(4, 128);
+    String text = repeat("acgt", 100);
+
+    // Act
+    AdaptiveStringSearch.Strategy strategy = searcher.strategyFor(text, "gtac");
+
+    // Assert
+    assertEquals(AdaptiveStringSearch.Strategy.BITAP, strategy, "Expected Bitap");
+  }
+
+  /**
+   * Tests that Boyer-Moore-Galil is chosen for a long periodic pattern.
+   */
+  @Test
+  void shouldChooseGalilWhenPatternIsLongAndPeriodic() {
+    // Arrange
+    AdaptiveStringSearch searcher = new AdaptiveStringSearch(4, 128);
+    String text = repeat("acgt", 100);
+
+    // Act
+    AdaptiveStringSearch.Strategy strategy = searcher.strategyFor(text, text.substring(0, 200));
+
+    // Assert
+    assertEquals(AdaptiveStringSearch.Strategy.BOYER_MOORE_GALIL, strategy, "Expected Galil");
+  }
+
+  /**
+   * Tests that Boyer-Moore-Galil is also chosen for a long periodic pattern over a large alphabet.
+   */
+  @Test
+  void shouldChooseGalilWhenPeriodicPatternHasLargeAlphabet() {
+    // Arrange
+    AdaptiveStringSearch searcher = new AdaptiveStringSearch(4, 128);
+    String text = repeat("abcdefghijklmnopqrstuvwxyz", 20);
+
+    // Act
+    AdaptiveStringSearch.Strategy strategy = searcher.strategyFor(text, text.substring(0, 200));
+
+    // Assert
+    assertEquals(AdaptiveStringSearch.Strategy.BOYER_MOORE_GALIL, strategy, "Expected Galil");
+  }
+
+  /**
+   * Tests that Boyer-Moore-Galil is chosen for a long non-periodic pattern on which the bad-character rule alone is quadratic.
+   */
+  @Test
+  void shouldChooseGalilWhenLongPatternDefeatsBadCharacterRule() {
+    // Arrange
+    AdaptiveStringSearch searcher = new AdaptiveStringSearch(4, 128);
+    String text = repeat("a", 10_000);
+    String pattern = "b" + repeat("a", 499);
+
+    // Act
+    AdaptiveStringSearch.Strategy strategy = searcher.strategyFor(text, pattern);
+
+    // Assert
+    assertEquals(AdaptiveStringSearch.Strategy.BOYER_MOORE_GALIL, strategy, "Expected Galil");
+  }
+
+  /**
+   * Tests that every strategy returns an empty list for a null or empty pattern instead of throwing.
+   */
+  @Test
+  void shouldReturnEmptyListWhenStrategyIsGivenNullOrEmptyPattern() {
+    for (AdaptiveStringSearch.Strategy strategy : AdaptiveStringSearch.Strategy.values()) {
+      // Act
+      List<Integer> nullResult = strategy.findOccurrences("acgt", null);
+      List<Integer> emptyResult = strategy.findOccurrences("acgt", "");
+
+      // Assert
+      assertTrue(nullResult.isEmpty(), "Expected no occurrences for a null pattern with " + strategy);
+      assertTrue(emptyResult.isEmpty(), "Expected no occurrences for an empty pattern with " + strategy);
+    }
+  }
+
+  /**
+   * Tests that Bitap falls back to Boyer-Moore for patterns longer than 64 characters.
+   */
+  @Test
+  void shouldFindOccurrencesWhenBitapIsGivenLongPattern() {
+    // Arrange
+    String text = repeat("ab", 60);
+    String pattern = repeat("ab", 50);
+
+    // Act
+    List<Integer> result = AdaptiveStringSearch.Strategy.BITAP.findOccurrences(text, pattern);
+
+    // Assert
+    assertEquals(Arrays.asList(0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20), result, "Expected every even index");
+  }
+
+  /**
+   * Tests that Boyer-Moore is chosen when the alphabet is large.
+   */
+  @Test
+  void shouldChooseBoyerMooreWhenAlphabetIsLarge() {
+    // Arrange
+    AdaptiveStringSearch searcher = new AdaptiveStringSearch(4, 128);
+    String text = repeat("abcdefghijklmnopqrstuvwxyz", 20);
+
+    // Act
+    AdaptiveStringSearch.Strategy strategy = searcher.strategyFor(text, "klmnop");
+
+    // Assert
+    assertEquals(AdaptiveStringSearch.Strategy.BOYER_MOORE, strategy, "Expected Boyer-Moore");
+  }
+
+  /**
+   * Tests that ZAlgorithm finds the same occurrences through the StringSearcher interface.
+   */
+  @Test
+  void shouldFindOccurrencesWhenUsingZAlgorithmAsSearcher() {
+    // Arrange
+    StringSearcher searcher = new ZAlgorithm();
+
+    // Act
+    List<Integer> result = searcher.findOccurrences("aaabaabaab", "aab");
+
+    // Assert
+    assertEquals(Arrays.asList(1, 4, 7), result, "Expected correct indexes for the pattern");
+  }
+
+  /**
+   * Tests that the constructor rejects a non-positive Galil threshold.
+   */
+  @Test
+  void shouldThrowExceptionWhenGalilThresholdIsNotPositive() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveStringSearch(4, 0));
+    assertEquals(
+        "bitapMaxAlphabet must be >= 0 and galilMinPatternLength > 0", exception.getMessage());
+  }
+
+  private static String repeat(String unit, int times) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < times; i++) builder.append(unit);
+    return builder.toString();
+  }
+}
@@ -0,0 +1,136 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AhoCorasickStringSearch class.
+ */
+class AhoCorasickStringSearchTest {
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when patterns is null.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenPatternsIsNull() {
+    // Arrange
+    String[] patterns = null;
+
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new AhoCorasickStringSearch(patterns));
+    assertEquals("patterns cannot be null", exception.getMessage(), "Expected exception message to match");
+  }
+
+  /**
+   * Tests that search reports every pattern occurrence with its pattern id and start offset.
+   */
+  @Test
+  void shouldReportAllOccurrencesWhenPatternsOverlap() {
+    // Arrange
+    AhoCorasickStringSearch searcher = new AhoCorasickStringSearch(new String[] {"he", "she", "his", "hers"});
+    List<String> actual = new ArrayList<>();
+
+    // Act
+    searcher.search("ushers", (patternId, offset) -> actual.add(patternId + "@" + offset));
+
+    // Assert
+    List<String> expected = new ArrayList<>();
+    expected.add("1@1");
+    expected.add("0@2");
+    expected.add("3@2");
+    assertEquals(expected, actual, "Expected she@1, he@2 and hers@2 to be reported in order");
+  }
+
+  /**
+   * Tests that findOccurrences returns an empty list when the text is null.
+   */
+  @Test
+  void shouldReturnEmptyListWhenTextIsNull() {
+    // Arrange
+    AhoCorasickStringSearch searcher = new AhoCorasickStringSearch(new String[] {"a"});
+
+    // Act
+    List<int[]> result = searcher.findOccurrences(null);
+
+    // Assert
+    assertTrue(result.isEmpty(), "Expected no occurrences when the text is null");
+  }
+
+  /**
+   * Tests that empty and null patterns never match.
+   */
+  @Test
+  void shouldIgnoreEmptyAndNullPatterns() {
+    // Arrange
+    AhoCorasickStringSearch searcher = new AhoCorasickStringSearch(new String[] {"", null});
+
+    // Act
+    List<int[]> result = searcher.findOccurrences("abc");
+
+    // Assert
+    assertTrue(result.isEmpty(), "Expected empty and null patterns to never match");
+  }
+
+  /**
+   * Tests that searching a byte range reports offsets as indexes into the byte array.
+   */
+  @Test
+  void shouldReportArrayIndexesWhenSearchingByteRange() {
+    // Arrange
+    AhoCorasickStringSearch searcher = new AhoCorasickStringSearch(new String[] {"ab", "b"});
+    byte[] text = {'a', 'b', 'x', 'a', 'b'};
+    List<int[]> result = new ArrayList<>();
+
+    // Act
+    searcher.search(text, 2, 5, (patternId, offset) -> result.add(new int[] {patternId, offset}));
+
+    // Assert
+    assertEquals(2, result.size(), "Expected ab and b in the range");
+    assertArrayEquals(new int[] {0, 3}, result.get(0), "Expected ab at index 3");
+    assertArrayEquals(new int[] {1, 4}, result.get(1), "Expected b at index 4");
+  }
+
+  /**
+   * Tests that patternCount returns the number of patterns given to the constructor.
+   */
+  @Test
+  void shouldReturnPatternCountWhenBuilt() {
+    // Arrange
+    AhoCorasickStringSearch searcher = new AhoCorasickStringSearch(new String[] {"a", "b", "c"});
+
+    // Act
+    int count = searcher.patternCount();
+
+    // Assert
+    assertEquals(3, count, "Expected pattern count to match the number of patterns");
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BadCharacterTable class.
+ */
+class BadCharacterTableTest {
+
+  /**
+   * Tests that lastIndexOf returns the last index of a Latin-1 character in the pattern.
+   */
+  @Test
+  void shouldReturnLastIndexWhenLatinCharacterIsPresent() {
+    // Arrange
+    BadCharacterTable table = new BadCharacterTable("abcab");
+
+    // Act
+    int result = table.lastIndexOf('a');
+
+    // Assert
+    assertEquals(3, result, "Expected the last index of 'a' in the pattern");
+  }
+
+  /**
+   * Tests that lastIndexOf returns the last index of a character above U+00FF in the pattern.
+   */
+  @Test
+  void shouldReturnLastIndexWhenHighCharacterIsPresent() {
+    // Arrange
+    BadCharacterTable table = new BadCharacterTable("一x一丁");
+
+    // Act
+    int result = table.lastIndexOf('一');
+
+    // Assert
+    assertEquals(2, result, "Expected the last index of U+4E00 in the pattern");
+  }
+
+  /**
+   * Tests that lastIndexOf returns -1 when a character above U+00FF is not in an ASCII pattern.
+   */
+  @Test
+  void shouldReturnMinusOneWhenHighCharacterIsAbsent() {
+    // Arrange
+    BadCharacterTable table = new BadCharacterTable("abc");
+
+    // Act
+    int result = table.lastIndexOf('￿');
+
+    // Assert
+    assertEquals(-1, result, "Expected -1 for a character which does not occur in the pattern");
+  }
+}
@@ -0,0 +1,150 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BitapStringSearch class.
+ */
+class BitapStringSearchTest {
+
+  /**
+   * Tests that find returns correct indexes when the pattern is found.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenPatternIsFound() {
+    // Arrange
+    BitapStringSearch search = new BitapStringSearch("AA");
+
+    // Act
+    List<Integer> result = search.find("ABABAAABAABAB");
+
+    // Assert
+    assertEquals(Arrays.asList(4, 5, 8), result, "Expected correct indexes for the pattern");
+  }
+
+  /**
+   * Tests that find returns an empty list when the pattern is not found.
+   */
+  @Test
+  void shouldReturnEmptyListWhenPatternIsNotFound() {
+    // Arrange
+    BitapStringSearch search = new BitapStringSearch("XYZ");
+
+    // Act
+    List<Integer> result = search.find("ABABAAABAABAB");
+
+    // Assert
+    assertEquals(Collections.emptyList(), result, "Expected no occurrences");
+  }
+
+  /**
+   * Tests that characters outside Latin-1 are matched.
+   */
+  @Test
+  void shouldFindPatternWhenItContainsNonLatinCharacters() {
+    // Arrange
+    BitapStringSearch search = new BitapStringSearch("жук");
+
+    // Act
+    List<Integer> result = search.find("жужжук жук");
+
+    // Assert
+    assertEquals(Arrays.asList(3, 7), result, "Expected correct indexes for the pattern");
+  }
+
+  /**
+   * Tests that k-mismatch search reports windows with at most k substitutions.
+   */
+  @Test
+  void shouldReportWindowsWhenMismatchesAreWithinLimit() {
+    // Arrange
+    BitapStringSearch search = new BitapStringSearch("abc");
+    List<Integer> offsets = new ArrayList<>();
+
+    // Act
+    int count = search.forEachWithMismatches("abdxbcabc", 1, offsets::add);
+
+    // Assert
+    assertEquals(3, count, "Expected three approximate occurrences");
+    assertEquals(Arrays.asList(0, 3, 6), offsets, "Expected start indexes of the windows");
+  }
+
+  /**
+   * Tests that k-edit search reports the end of substrings within edit distance k.
+   */
+  @Test
+  void shouldReportEndIndexesWhenEditsAreWithinLimit() {
+    // Arrange
+    BitapStringSearch search = new BitapStringSearch("abcd");
+    List<Integer> ends = new ArrayList<>();
+
+    // Act
+    search.forEachWithEdits("xxabdxx", 1, ends::add);
+
+    // Assert
+    assertEquals(Collections.singletonList(5), ends, "Expected end indexes of the approximate matches");
+  }
+
+  /**
+   * Tests that the constructor rejects a pattern longer than 64 characters.
+   */
+  @Test
+  void shouldThrowExceptionWhenPatternIsTooLong() {
+    // Arrange
+    char[] chars = new char[65];
+    Arrays.fill(chars, 'a');
+    String pattern = new String(chars);
+
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> new BitapStringSearch(pattern));
+    assertEquals("pattern length must be in [1, 64]", exception.getMessage());
+  }
+
+  /**
+   * Tests that a negative k is rejected.
+   */
+  @Test
+  void shouldThrowExceptionWhenKIsNegative() {
+    // Arrange
+    BitapStringSearch search = new BitapStringSearch("ab");
+
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> search.forEachWithEdits("abc", -1, end -> {}));
+    assertEquals("k cannot be negative", exception.getMessage());
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoyerMooreBytePattern class.
+ */
+class BoyerMooreBytePatternTest {
+
+  /**
+   * Tests that forEach reports every occurrence in a byte array, including bytes above 0x7F.
+   */
+  @Test
+  void shouldReportOccurrencesWhenSearchingByteArray() {
+    // Arrange
+    BoyerMooreBytePattern pattern = new BoyerMooreBytePattern(new byte[] {(byte) 0xC3, (byte) 0xA9});
+    byte[] text = {'a', (byte) 0xC3, (byte) 0xA9, 'b', (byte) 0xC3, (byte) 0xA9};
+    List<Integer> offsets = new ArrayList<>();
+
+    // Act
+    pattern.forEach(text, 0, text.length, offsets::add);
+
+    // Assert
+    assertEquals(Arrays.asList(1, 4), offsets, "Expected both occurrences to be reported");
+  }
+
+  /**
+   * Tests that forEach searches only the requested range of a ByteBuffer.
+   */
+  @Test
+  void shouldSearchOnlyRangeWhenSearchingByteBuffer() {
+    // Arrange
+    BoyerMooreBytePattern pattern = new BoyerMooreBytePattern(new byte[] {'A', 'A'});
+    ByteBuffer text = ByteBuffer.wrap(new byte[] {'A', 'A', 'A', 'A'});
+
+    // Act
+    int count = pattern.forEach(text, 1, 4, index -> { });
+
+    // Assert
+    assertEquals(2, count, "Expected only occurrences inside the range to be counted");
+  }
+
+  /**
+   * Tests that forEach returns zero when the text is null.
+   */
+  @Test
+  void shouldReturnZeroWhenTextIsNull() {
+    // Arrange
+    BoyerMooreBytePattern pattern = new BoyerMooreBytePattern(new byte[] {'A'});
+
+    // Act
+    int count = pattern.forEach((byte[]) null, 0, 0, index -> { });
+
+    // Assert
+    assertEquals(0, count, "Expected no occurrences when the text is null");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when the pattern is empty.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenPatternIsEmpty() {
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new BoyerMooreBytePattern(new byte[0]));
+    assertEquals("pattern cannot be null or empty", exception.getMessage(), "Expected exception message to match");
+  }
+}
@@ -0,0 +1,112 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoyerMooreGalilSearch class.
+ */
+class BoyerMooreGalilSearchTest {
+
+  /**
+   * Tests that find returns every overlapping occurrence of a periodic pattern.
+   */
+  @Test
+  void shouldReturnAllIndexesWhenPatternIsPeriodic() {
+    // Arrange
+    BoyerMooreGalilSearch searcher = new BoyerMooreGalilSearch("ABAB");
+
+    // Act
+    List<Integer> result = searcher.find("ABABABABAB");
+
+    // Assert
+    assertEquals(Arrays.asList(0, 2, 4, 6), result, "Expected every overlapping occurrence");
+  }
+
+  /**
+   * Tests that find returns correct indexes when the pattern is not periodic.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenPatternIsFound() {
+    // Arrange
+    BoyerMooreGalilSearch searcher = new BoyerMooreGalilSearch("AA");
+
+    // Act
+    List<Integer> result = searcher.find("ABABAAABAABAB");
+
+    // Assert
+    assertEquals(Arrays.asList(4, 5, 8), result, "Expected correct indexes for the pattern");
+  }
+
+  /**
+   * Tests that forEach counts every occurrence on an adversarial input of a single repeated character.
+   */
+  @Test
+  void shouldCountAllOccurrencesWhenInputIsAdversarial() {
+    // Arrange
+    char[] chars = new char[1 << 18];
+    Arrays.fill(chars, 'A');
+    String text = new String(chars);
+    BoyerMooreGalilSearch searcher = new BoyerMooreGalilSearch(text.substring(0, 1 << 10));
+
+    // Act
+    int count = searcher.forEach(text, offset -> { });
+
+    // Assert
+    assertEquals(text.length() - (1 << 10) + 1, count, "Expected an occurrence at every position");
+  }
+
+  /**
+   * Tests that find returns an empty list when the text is null.
+   */
+  @Test
+  void shouldReturnEmptyListWhenTextIsNull() {
+    // Arrange
+    BoyerMooreGalilSearch searcher = new BoyerMooreGalilSearch("AA");
+
+    // Act
+    List<Integer> result = searcher.find(null);
+
+    // Assert
+    assertTrue(result.isEmpty(), "Expected no occurrences when the text is null");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when the pattern is null.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenPatternIsNull() {
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new BoyerMooreGalilSearch(null));
+    assertEquals("pattern cannot be null or empty", exception.getMessage(), "Expected exception message to match");
+  }
+}
@@ -0,0 +1,170 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoyerMoorePatternCache class.
+ */
+class BoyerMoorePatternCacheTest {
+
+  private BoyerMoorePatternCache cache;
+
+  /**
+   * Setup method to initialize a cache holding two patterns before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    cache = new BoyerMoorePatternCache(2);
+  }
+
+  /**
+   * Tests that the same compiled instance is returned for a pattern already in the cache.
+   */
+  @Test
+  void shouldReturnSameInstanceWhenPatternIsCached() {
+    // Arrange
+    BoyerMoorePattern first = cache.get("abc");
+
+    // Act
+    BoyerMoorePattern second = cache.get("abc");
+
+    // Assert
+    assertSame(first, second, "Expected the cached compiled pattern to be reused");
+  }
+
+  /**
+   * Tests that hits and misses are counted.
+   */
+  @Test
+  void shouldCountHitsAndMissesWhenPatternsAreRequested() {
+    // Arrange
+    cache.get("abc");
+    cache.get("abc");
+
+    // Act
+    long[] counters = {cache.hitCount(), cache.missCount()};
+
+    // Assert
+    assertArrayEquals(new long[] {1, 1}, counters, "Expected one hit and one miss");
+  }
+
+  /**
+   * Tests that the least recently used pattern is evicted when the cache is full.
+   */
+  @Test
+  void shouldEvictLeastRecentlyUsedPatternWhenCapacityIsExceeded() {
+    // Arrange
+    BoyerMoorePattern a = cache.get("a");
+    cache.get("b");
+    cache.get("a");
+    cache.get("c");
+
+    // Act
+    BoyerMoorePattern result = cache.get("a");
+
+    // Assert
+    assertSame(a, result, "Expected the recently used pattern to survive eviction");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when capacity is not positive.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenCapacityIsZero() {
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new BoyerMoorePatternCache(0));
+    assertEquals("capacity must be positive", exception.getMessage(), "Expected exception message to match");
+  }
+
+  /**
+   * Tests that get rejects a null pattern with IllegalArgumentException instead of a NullPointerException.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenPatternIsNull() {
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> cache.get(null));
+    assertEquals("pattern cannot be null or empty", exception.getMessage(), "Expected exception message to match");
+  }
+
+  /**
+   * Tests that clear removes every cached pattern.
+   */
+  @Test
+  void shouldBeEmptyWhenCleared() {
+    // Arrange
+    cache.get("a");
+
+    // Act
+    cache.clear();
+
+    // Assert
+    assertEquals(0, cache.size(), "Expected the cache to be empty after clear");
+  }
+
+  /**
+   * Tests that concurrent lookups return working patterns and keep the cache within its capacity.
+   */
+  @Test
+  void shouldStayWithinCapacityWhenSharedBetweenThreads() throws Exception {
+    // Arrange
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<Integer>> results = new ArrayList<>();
+
+    // Act
+    try {
+      for (int task = 0; task < 4; task++) {
+        int seed = task;
+        results.add(executor.submit(() -> {
+          int found = 0;
+          for (int i = 0; i < 5_000; i++) {
+            String pattern = "p" + (i * 7 + seed) % 5;
+            found += cache.get(pattern).find("x" + pattern).size();
+          }
+          return found;
+        }));
+      }
+      for (Future<Integer> result : results) {
+        // Assert
+        assertEquals(5_000, (int) result.get(), "Expected every lookup to find its pattern once");
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertTrue(cache.size() <= 2, "Expected at most two cached patterns");
+    assertEquals(20_000, cache.hitCount() + cache.missCount(), "Expected every lookup to be counted");
+  }
+}
@@ -0,0 +1,193 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoyerMoorePattern class.
+ */
+class BoyerMoorePatternTest {
+
+  /**
+   * Tests that find returns correct indexes when the pattern is found.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenPatternIsFound() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("AA");
+
+    // Act
+    List<Integer> result = pattern.find("ABABAAABAABAB");
+
+    // Assert
+    assertEquals(Arrays.asList(4, 5, 8), result, "Expected the compiled pattern to find every occurrence");
+  }
+
+  /**
+   * Tests that find returns an empty list when the text is null.
+   */
+  @Test
+  void shouldReturnEmptyListWhenTextIsNull() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("AA");
+
+    // Act
+    List<Integer> result = pattern.find(null);
+
+    // Assert
+    assertTrue(result.isEmpty(), "Expected no occurrences when the text is null");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when the pattern is empty.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenPatternIsEmpty() {
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new BoyerMoorePattern(""));
+    assertEquals("pattern cannot be null or empty", exception.getMessage(), "Expected exception message to match");
+  }
+
+  /**
+   * Tests that forEach passes every occurrence to the consumer and returns the count.
+   */
+  @Test
+  void shouldPassEveryIndexToConsumerWhenForEachIsCalled() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("AA");
+    StringBuilder indexes = new StringBuilder();
+
+    // Act
+    int count = pattern.forEach("AAAA", index -> indexes.append(index));
+
+    // Assert
+    assertEquals("012", indexes.toString(), "Expected indexes 0, 1 and 2 to be reported");
+    assertEquals(3, count, "Expected three occurrences to be counted");
+  }
+
+  /**
+   * Tests that forEach stops after the given limit.
+   */
+  @Test
+  void shouldStopAfterLimitWhenForEachIsCalledWithLimit() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("AA");
+
+    // Act
+    int count = pattern.forEach("AAAAAAA", 2, index -> { });
+
+    // Assert
+    assertEquals(2, count, "Expected the search to stop after two occurrences");
+  }
+
+  /**
+   * Tests that find fills the caller supplied array and returns the number of indexes written.
+   */
+  @Test
+  void shouldFillArrayWhenFindIsCalledWithBuffer() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("AA");
+    int[] out = new int[3];
+
+    // Act
+    int written = pattern.find("AAAAAAA", out);
+
+    // Assert
+    assertArrayEquals(new int[] {0, 1, 2}, out, "Expected the buffer to hold the first three indexes");
+    assertEquals(3, written, "Expected three indexes to be written");
+  }
+
+  /**
+   * Tests that count returns the number of occurrences.
+   */
+  @Test
+  void shouldReturnNumberOfOccurrencesWhenCountIsCalled() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("AA");
+
+    // Act
+    int count = pattern.count("ABABAAABAABAB");
+
+    // Assert
+    assertEquals(3, count, "Expected three occurrences");
+  }
+
+  /**
+   * Tests that findFirst returns -1 when the pattern does not occur.
+   */
+  @Test
+  void shouldReturnMinusOneWhenFindFirstFindsNothing() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("XYZ");
+
+    // Act
+    int first = pattern.findFirst("ABABAAABAABAB");
+
+    // Assert
+    assertEquals(-1, first, "Expected -1 when the pattern does not occur");
+  }
+
+  /**
+   * Tests that a case-insensitive pattern matches char arrays without copying them.
+   */
+  @Test
+  void shouldPassEveryIndexWhenIgnoringCaseInCharArray() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("abc", true);
+    char[] text = "xABCabcAbC".toCharArray();
+    List<Integer> indexes = new ArrayList<>();
+
+    // Act
+    int count = pattern.forEach(text, 0, text.length, indexes::add);
+
+    // Assert
+    assertEquals(3, count, "Expected three case-insensitive occurrences");
+    assertEquals(Arrays.asList(1, 4, 7), indexes, "Expected correct indexes for the pattern");
+    assertTrue(pattern.ignoreCase(), "Expected the pattern to report that it ignores case");
+  }
+
+  /**
+   * Tests that toString returns the source pattern.
+   */
+  @Test
+  void shouldReturnSourcePatternWhenToStringIsCalled() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("abc");
+
+    // Act
+    String result = pattern.toString();
+
+    // Assert
+    assertEquals("abc", result, "Expected toString to return the source pattern");
+  }
+}
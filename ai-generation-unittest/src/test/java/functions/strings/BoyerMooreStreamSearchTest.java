@@ -0,0 +1,107 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoyerMooreStreamSearch class.
+ */
+class BoyerMooreStreamSearchTest {
+
+  /**
+   * Tests that search reports absolute offsets of matches which cross chunk boundaries.
+   */
+  @Test
+  void shouldReportAbsoluteOffsetsWhenMatchesCrossChunkBoundaries() throws IOException {
+    // Arrange
+    BoyerMooreStreamSearch searcher = new BoyerMooreStreamSearch(new BoyerMoorePattern("AA"), 2);
+    List<Long> offsets = new ArrayList<>();
+
+    // Act
+    searcher.search(new StringReader("ABABAAABAABAB"), offsets::add);
+
+    // Assert
+    assertEquals(Arrays.asList(4L, 5L, 8L), offsets, "Expected every occurrence to be reported once");
+  }
+
+  /**
+   * Tests that search returns zero when the stream is empty.
+   */
+  @Test
+  void shouldReturnZeroWhenStreamIsEmpty() throws IOException {
+    // Arrange
+    BoyerMooreStreamSearch searcher = new BoyerMooreStreamSearch(new BoyerMoorePattern("AA"));
+
+    // Act
+    long count = searcher.search(new StringReader(""), offset -> { });
+
+    // Assert
+    assertEquals(0L, count, "Expected no occurrences in an empty stream");
+  }
+
+  /**
+   * Tests that search decodes a byte channel and counts occurrences.
+   */
+  @Test
+  void shouldCountOccurrencesWhenSearchingByteChannel() throws IOException {
+    // Arrange
+    BoyerMooreStreamSearch searcher = new BoyerMooreStreamSearch(new BoyerMoorePattern("ab"), 4);
+    ReadableByteChannel channel =
+        Channels.newChannel(new ByteArrayInputStream("abcabcab".getBytes(StandardCharsets.UTF_8)));
+
+    // Act
+    long count = searcher.search(channel, StandardCharsets.UTF_8, offset -> { });
+
+    // Assert
+    assertEquals(3L, count, "Expected three occurrences in the channel");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when the buffer size is not positive.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenBufferSizeIsZero() {
+    // Arrange
+    BoyerMoorePattern pattern = new BoyerMoorePattern("a");
+
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new BoyerMooreStreamSearch(pattern, 0));
+    assertEquals("bufferSize must be positive", exception.getMessage(), "Expected exception message to match");
+  }
+}
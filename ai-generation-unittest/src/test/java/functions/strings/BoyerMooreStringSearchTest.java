@@ -33,6 +33,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -163,17 +164,134 @@ class BoyerMooreStringSearchTest {
   void shouldGenerateCorrectSkipTable() {
     // Arrange
     String pattern = "ABCD";
-    int[] expectedSkipTable = new int[256];
-    expectedSkipTable['A'] = 0;
-    expectedSkipTable['B'] = 1;
-    expectedSkipTable['C'] = 2;
-    expectedSkipTable['D'] = 3;
 
     // Act
-    int[] skipTable = searcher.generateSkipTable(pattern);
+    BadCharacterTable skipTable = searcher.generateSkipTable(pattern);
 
     // Assert
-    assertArrayEquals(expectedSkipTable, skipTable, "The skip table should be correctly generated.");
+    int[] expected = {0, 1, 2, 3, -1};
+    int[] actual = {
+      skipTable.lastIndexOf('A'),
+      skipTable.lastIndexOf('B'),
+      skipTable.lastIndexOf('C'),
+      skipTable.lastIndexOf('D'),
+      skipTable.lastIndexOf('E')
+    };
+    assertArrayEquals(expected, actual, "The skip table should be correctly generated.");
+  }
+
+  /**
+   * Tests that findOccurrences returns correct indexes when text and pattern contain characters above U+00FF.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenTextContainsNonLatinCharacters() {
+    // Arrange
+    String text = "Привет, мир! Привет!";
+    String pattern = "Привет";
+
+    // Act
+    List<Integer> result = searcher.findOccurrences(text, pattern);
+
+    // Assert
+    List<Integer> expected = Arrays.asList(0, 13);
+    assertEquals(expected, result, "The method should find patterns made of non-Latin characters.");
+  }
+
+  /**
+   * Tests that findOccurrences does not fail when only the text contains characters above U+00FF.
+   */
+  @Test
+  void shouldReturnEmptyListWhenOnlyTextContainsNonLatinCharacters() {
+    // Arrange
+    String text = "日本語のテキスト";
+    String pattern = "abc";
+
+    // Act
+    List<Integer> result = searcher.findOccurrences(text, pattern);
+
+    // Assert
+    assertTrue(result.isEmpty(), "The method should return an empty list instead of failing on non-Latin text.");
+  }
+
+  /**
+   * Tests that findOccurrencesIgnoreCase matches regardless of letter case.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenIgnoringCase() {
+    // Arrange
+    String text = "Hello HELLO hello";
+    String pattern = "hELLo";
+
+    // Act
+    List<Integer> result = searcher.findOccurrencesIgnoreCase(text, pattern);
+
+    // Assert
+    assertEquals(Arrays.asList(0, 6, 12), result, "Expected every case variant to match");
+  }
+
+  /**
+   * Tests that findOccurrencesIgnoreCase folds non-ASCII letters such as the Greek final sigma.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenIgnoringCaseOfGreekText() {
+    // Arrange
+    String text = "ΟΔΟΣ οδος";
+    String pattern = "οδοσ";
+
+    // Act
+    List<Integer> result = searcher.findOccurrencesIgnoreCase(text, pattern);
+
+    // Assert
+    assertEquals(Arrays.asList(0, 5), result, "Expected both spellings to match");
+  }
+
+  /**
+   * Tests that findOccurrencesParallel returns the same ordered indexes as findOccurrences on a large text.
+   */
+  @Test
+  void shouldReturnSameIndexesAsSequentialWhenSearchingLargeTextInParallel() {
+    // Arrange
+    StringBuilder builder = new StringBuilder();
+    while (builder.length() < BoyerMooreStringSearch.PARALLEL_THRESHOLD * 2) {
+      builder.append("ABABAAABAABAB");
+    }
+    String text = builder.toString();
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    // Act
+    List<Integer> result = searcher.findOccurrencesParallel(text, "AABA", pool);
+    pool.shutdown();
+
+    // Assert
+    assertEquals(searcher.findOccurrences(text, "AABA"), result, "Parallel search should match sequential search.");
+  }
+
+  /**
+   * Tests that findOccurrencesParallel falls back to sequential search for small texts.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenSearchingSmallTextInParallel() {
+    // Arrange
+    String text = "ABABAAABAABAB";
+    String pattern = "AA";
+
+    // Act
+    List<Integer> result = searcher.findOccurrencesParallel(text, pattern);
+
+    // Assert
+    assertEquals(Arrays.asList(4, 5, 8), result, "The method should return correct indexes for small texts.");
+  }
+
+  /**
+   * Tests that findOccurrencesParallel returns an empty list when the pattern is null.
+   */
+  @Test
+  void shouldReturnEmptyListWhenPatternIsNullInParallel() {
+    // Act
+    List<Integer> result = searcher.findOccurrencesParallel("ABAB", null);
+
+    // Assert
+    assertTrue(result.isEmpty(), "The method should return an empty list when the pattern is null.");
   }
 
   /**
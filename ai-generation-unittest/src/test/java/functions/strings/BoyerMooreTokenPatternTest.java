@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoyerMooreTokenPattern class.
+ */
+class BoyerMooreTokenPatternTest {
+
+  /**
+   * Tests that find returns correct indexes when an int token pattern is found.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenIntTokensAreFound() {
+    // Arrange
+    BoyerMooreTokenPattern pattern = new BoyerMooreTokenPattern(new int[] {100_000, 7});
+    int[] text = {7, 100_000, 7, 100_000, 100_000, 7};
+
+    // Act
+    List<Integer> result = pattern.find(text);
+
+    // Assert
+    assertEquals(Arrays.asList(1, 4), result, "Expected correct indexes for the token pattern");
+  }
+
+  /**
+   * Tests that negative and very large long symbols are matched.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenLongSymbolsAreExtreme() {
+    // Arrange
+    BoyerMooreTokenPattern pattern =
+        new BoyerMooreTokenPattern(new long[] {Long.MAX_VALUE, Long.MIN_VALUE});
+    long[] text = {0, Long.MAX_VALUE, Long.MIN_VALUE, -1};
+
+    // Act
+    List<Integer> result = pattern.find(text);
+
+    // Assert
+    assertEquals(Arrays.asList(1), result, "Expected a single occurrence");
+  }
+
+  /**
+   * Tests that forEach only searches the requested range.
+   */
+  @Test
+  void shouldOnlyReportOccurrencesInRangeWhenForEachIsCalled() {
+    // Arrange
+    BoyerMooreTokenPattern pattern = new BoyerMooreTokenPattern(new int[] {1, 2});
+    int[] text = {1, 2, 1, 2, 1, 2};
+    List<Integer> indexes = new ArrayList<>();
+
+    // Act
+    int count = pattern.forEach(text, 1, 5, indexes::add);
+
+    // Assert
+    assertEquals(1, count, "Expected one occurrence inside the range");
+    assertEquals(Arrays.asList(2), indexes, "Expected the index of the occurrence in the range");
+  }
+
+  /**
+   * Tests that BoyerMooreStringSearch accepts token sequences.
+   */
+  @Test
+  void shouldReturnEmptyListWhenTokenPatternIsLongerThanText() {
+    // Arrange
+    BoyerMooreStringSearch searcher = new BoyerMooreStringSearch();
+
+    // Act
+    List<Integer> result = searcher.findTokenOccurrences(new long[] {1}, new long[] {1, 1});
+
+    // Assert
+    assertTrue(result.isEmpty(), "Expected no occurrences for a pattern longer than the text");
+  }
+
+  /**
+   * Tests that the constructor rejects an empty pattern.
+   */
+  @Test
+  void shouldThrowExceptionWhenPatternIsEmpty() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> new BoyerMooreTokenPattern(new int[0]));
+    assertEquals("pattern cannot be null or empty", exception.getMessage());
+  }
+}
@@ -0,0 +1,138 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DirectorySearch class.
+ */
+class DirectorySearchTest {
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Tests that matches in nested directories are reported with their byte offsets.
+   */
+  @Test
+  void shouldReportMatchesWhenFilesAreInNestedDirectories() throws IOException {
+    // Arrange
+    Path nested = Files.createDirectories(tempDir.resolve("a").resolve("b"));
+    Path file = Files.write(nested.resolve("text.txt"), "xxneedlexx".getBytes(StandardCharsets.UTF_8));
+    DirectorySearch search = new DirectorySearch(new String[] {"needle"});
+    List<String> matches = new ArrayList<>();
+
+    // Act
+    DirectorySearch.Result result =
+        search.search(tempDir, (path, patternId, offset) -> matches.add(path + ":" + patternId + ":" + offset));
+
+    // Assert
+    assertEquals(Arrays.asList(file + ":0:2"), matches, "Expected the match in the nested file");
+    assertEquals(1, result.files(), "Expected one file to be searched");
+    assertEquals(10, result.bytes(), "Expected every byte to be counted");
+  }
+
+  /**
+   * Tests that offsets count UTF-8 bytes rather than chars.
+   */
+  @Test
+  void shouldReportByteOffsetsWhenTextHasMultiByteCharacters() throws IOException {
+    // Arrange
+    Files.write(tempDir.resolve("text.txt"), "ééabc".getBytes(StandardCharsets.UTF_8));
+    DirectorySearch search = new DirectorySearch(new String[] {"abc"});
+    List<Long> offsets = new ArrayList<>();
+
+    // Act
+    search.search(tempDir, (path, patternId, offset) -> offsets.add(offset));
+
+    // Assert
+    assertEquals(Arrays.asList(4L), offsets, "Expected the byte offset after two 2-byte chars");
+  }
+
+  /**
+   * Tests that a match spanning two read chunks is reported exactly once.
+   */
+  @Test
+  void shouldReportMatchOnceWhenItSpansChunks() throws IOException {
+    // Arrange
+    Files.write(tempDir.resolve("text.txt"), "aaaabcdaaaa".getBytes(StandardCharsets.UTF_8));
+    DirectorySearch search = new DirectorySearch(new String[] {"abcd"}, 1, 1, 5);
+    List<Long> offsets = new ArrayList<>();
+
+    // Act
+    DirectorySearch.Result result = search.search(tempDir, (path, patternId, offset) -> offsets.add(offset));
+
+    // Assert
+    assertEquals(Arrays.asList(3L), offsets, "Expected a single occurrence");
+    assertEquals(1, result.matches(), "Expected the result to count one match");
+  }
+
+  /**
+   * Tests that the result reports throughput metrics.
+   */
+  @Test
+  void shouldReportThroughputWhenSearchCompletes() throws IOException {
+    // Arrange
+    for (int i = 0; i < 10; i++) {
+      Files.write(tempDir.resolve(i + ".txt"), "some text".getBytes(StandardCharsets.UTF_8));
+    }
+    DirectorySearch search = new DirectorySearch(new String[] {"text"}, 2, 3, 64);
+
+    // Act
+    DirectorySearch.Result result = search.search(tempDir, (path, patternId, offset) -> {});
+
+    // Assert
+    assertEquals(10, result.files(), "Expected every file to be searched");
+    assertEquals(10, result.matches(), "Expected one match per file");
+    assertTrue(result.filesPerSecond() > 0, "Expected a positive files/s rate");
+    assertTrue(result.bytesPerSecond() > 0, "Expected a positive bytes/s rate");
+  }
+
+  /**
+   * Tests that a buffer shorter than the longest pattern is rejected.
+   */
+  @Test
+  void shouldThrowExceptionWhenBufferIsShorterThanPattern() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new DirectorySearch(new String[] {"needle"}, 1, 1, 3));
+    assertEquals("bufferSize must be at least the longest pattern", exception.getMessage());
+  }
+}
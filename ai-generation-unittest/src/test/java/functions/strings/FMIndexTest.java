@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FMIndex class.
+ */
+class FMIndexTest {
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Tests that count returns the number of occurrences of the pattern.
+   */
+  @Test
+  void shouldReturnNumberOfOccurrencesWhenPatternIsFound() {
+    // Arrange
+    FMIndex index = new FMIndex("ABABAAABAABAB");
+
+    // Act
+    int count = index.count("AA");
+
+    // Assert
+    assertEquals(3, count, "Expected three occurrences of the pattern");
+  }
+
+  /**
+   * Tests that locate returns sorted indexes of the pattern.
+   */
+  @Test
+  void shouldReturnSortedIndexesWhenLocatingPattern() {
+    // Arrange
+    FMIndex index = new FMIndex("ABABAAABAABAB", 2);
+
+    // Act
+    int[] occurrences = index.locate("AA");
+
+    // Assert
+    assertArrayEquals(new int[] {4, 5, 8}, occurrences, "Expected sorted indexes of the pattern");
+  }
+
+  /**
+   * Tests that count returns zero when the pattern contains a character absent from the text.
+   */
+  @Test
+  void shouldReturnZeroWhenPatternHasUnknownCharacter() {
+    // Arrange
+    FMIndex index = new FMIndex("ABABAAABAABAB");
+
+    // Act
+    int count = index.count("AZ");
+
+    // Assert
+    assertEquals(0, count, "Expected no occurrences for an unknown character");
+  }
+
+  /**
+   * Tests that a saved index answers the same queries after being loaded.
+   */
+  @Test
+  void shouldAnswerSameQueriesWhenSavedAndLoaded() throws IOException {
+    // Arrange
+    FMIndex index = new FMIndex("ABABAAABAABAB", 4);
+    Path file = tempDir.resolve("index.fm");
+    index.save(file);
+
+    // Act
+    FMIndex loaded = FMIndex.load(file);
+
+    // Assert
+    assertArrayEquals(index.locate("AB"), loaded.locate("AB"), "Expected the loaded index to locate the same occurrences");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when the sample rate is not positive.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenSampleRateIsZero() {
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new FMIndex("abc", 0));
+    assertEquals("sampleRate must be positive", exception.getMessage(), "Expected exception message to match");
+  }
+}
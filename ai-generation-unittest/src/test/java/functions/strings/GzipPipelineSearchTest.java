@@ -0,0 +1,164 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GzipPipelineSearch class.
+ */
+class GzipPipelineSearchTest {
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Tests that search reports decompressed offsets of every occurrence.
+   */
+  @Test
+  void shouldReturnDecompressedOffsetsWhenPatternIsFound() throws IOException {
+    // Arrange
+    GzipPipelineSearch search = new GzipPipelineSearch(compile("ERROR"));
+    byte[] archive = gzip("INFO ok\nERROR bad\nERROR worse\n");
+    List<Long> offsets = new ArrayList<>();
+
+    // Act
+    long count = search.search(new ByteArrayInputStream(archive), offsets::add);
+
+    // Assert
+    assertEquals(2, count, "Expected two occurrences");
+    assertEquals(Arrays.asList(8L, 18L), offsets, "Expected offsets in the decompressed text");
+  }
+
+  /**
+   * Tests that an occurrence split between two ring buffers is found once.
+   */
+  @Test
+  void shouldFindOccurrenceWhenItSpansBuffers() throws IOException {
+    // Arrange
+    GzipPipelineSearch search = new GzipPipelineSearch(compile("needle"), 4, 2);
+    byte[] archive = gzip("haystackneedlehay");
+    List<Long> offsets = new ArrayList<>();
+
+    // Act
+    search.search(new ByteArrayInputStream(archive), offsets::add);
+
+    // Assert
+    assertEquals(Arrays.asList(8L), offsets, "Expected a single occurrence");
+  }
+
+  /**
+   * Tests that a gzip file is searched through its path.
+   */
+  @Test
+  void shouldSearchFileWhenPathIsGiven() throws IOException {
+    // Arrange
+    Path file = Files.write(tempDir.resolve("log.gz"), gzip("abcabcabc"));
+    GzipPipelineSearch search = new GzipPipelineSearch(compile("bca"));
+
+    // Act
+    long count = search.search(file, offset -> {});
+
+    // Assert
+    assertEquals(2, count, "Expected two occurrences in the file");
+  }
+
+  /**
+   * Tests that an unchecked exception on the inflater thread reaches the caller instead of hanging.
+   */
+  @Test
+  void shouldThrowUncheckedExceptionWhenInflaterThreadFails() throws IOException {
+    // Arrange
+    GzipPipelineSearch searcher = new GzipPipelineSearch(new BoyerMooreBytePattern("a".getBytes(StandardCharsets.US_ASCII)));
+    ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(archive)) {
+      out.write("aaaa".getBytes(StandardCharsets.US_ASCII));
+    }
+    InputStream failing = new FilterInputStream(new ByteArrayInputStream(archive.toByteArray())) {
+      @Override
+      public int read(byte[] buffer, int offset, int length) {
+        throw new IllegalStateException("broken stream");
+      }
+    };
+
+    // Act & Assert
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> searcher.search(failing, offset -> {}));
+    assertEquals("broken stream", exception.getMessage());
+  }
+
+  /**
+   * Tests that input which is not gzip raises an IOException.
+   */
+  @Test
+  void shouldThrowIOExceptionWhenInputIsNotGzip() {
+    // Arrange
+    GzipPipelineSearch search = new GzipPipelineSearch(compile("a"));
+    byte[] plain = "not compressed".getBytes(StandardCharsets.US_ASCII);
+
+    // Act & Assert
+    assertThrows(IOException.class, () -> search.search(new ByteArrayInputStream(plain), offset -> {}));
+  }
+
+  /**
+   * Tests that a ring with a single buffer is rejected.
+   */
+  @Test
+  void shouldThrowExceptionWhenRingSizeIsTooSmall() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> new GzipPipelineSearch(compile("a"), 16, 1));
+    assertEquals("ringSize must be at least 2", exception.getMessage());
+  }
+
+  private static BoyerMooreBytePattern compile(String pattern) {
+    return new BoyerMooreBytePattern(pattern.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private static byte[] gzip(String text) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(text.getBytes(StandardCharsets.US_ASCII));
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,105 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IncrementalZArray class.
+ */
+class IncrementalZArrayTest {
+
+  private IncrementalZArray zArray;
+
+  /**
+   * Setup method to initialize an empty IncrementalZArray before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    zArray = new IncrementalZArray();
+  }
+
+  /**
+   * Tests that the Z-array equals the one computed by ZAlgorithm after appending characters.
+   */
+  @Test
+  void shouldMatchZAlgorithmWhenCharactersAreAppended() {
+    // Arrange
+    String text = "aabcaabxaaaz";
+
+    // Act
+    zArray.append(text);
+
+    // Assert
+    assertArrayEquals(new ZAlgorithm().calculateZ(text), zArray.toArray(), "Expected the incremental Z-array to match ZAlgorithm");
+  }
+
+  /**
+   * Tests that an open position stops growing once a mismatching character is appended.
+   */
+  @Test
+  void shouldCloseZValueWhenMismatchingCharacterIsAppended() {
+    // Arrange
+    zArray.append("aaa");
+
+    // Act
+    zArray.append('b');
+
+    // Assert
+    assertEquals(2, zArray.z(1), "Expected the Z-value at position 1 to stop at 2");
+  }
+
+  /**
+   * Tests that length returns the number of appended characters.
+   */
+  @Test
+  void shouldReturnLengthWhenCharactersAreAppended() {
+    // Arrange
+    zArray.append("abc");
+
+    // Act
+    int length = zArray.length();
+
+    // Assert
+    assertEquals(3, length, "Expected length to equal the number of appended characters");
+  }
+
+  /**
+   * Tests that z throws IndexOutOfBoundsException for a position past the end.
+   */
+  @Test
+  void shouldThrowIndexOutOfBoundsExceptionWhenPositionIsPastEnd() {
+    // Arrange
+    zArray.append("ab");
+
+    // Act & Assert
+    Exception exception = assertThrows(IndexOutOfBoundsException.class, () -> zArray.z(2));
+    assertEquals("position 2 of 2", exception.getMessage(), "Expected exception message to match");
+  }
+}
@@ -0,0 +1,96 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LZ77Factorizer class.
+ */
+class LZ77FactorizerTest {
+
+  /**
+   * Tests that a repeated record collapses into a literal run and one long copy.
+   */
+  @Test
+  void shouldEmitLongCopyWhenInputRepeats() {
+    // Arrange
+    LZ77Factorizer factorizer = new LZ77Factorizer();
+    List<int[]> factors = new ArrayList<>();
+
+    // Act
+    long count =
+        factorizer.factorize(
+            "abcabcabcabc", (position, distance, length) ->
+                factors.add(new int[] {(int) position, distance, length}));
+
+    // Assert
+    assertEquals(4, count, "Expected three literals and one copy");
+    assertArrayEquals(new int[] {3, 3, 9}, factors.get(3), "Expected a copy of 9 from 3 back");
+  }
+
+  /**
+   * Tests that factors streamed from a reader never reach further back than the window.
+   */
+  @Test
+  void shouldKeepDistancesBelowWindowWhenInputIsLongerThanWindow() throws IOException {
+    // Arrange
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 1000; i++) text.append("xyz".charAt(i * i % 3));
+    LZ77Factorizer factorizer = new LZ77Factorizer(16);
+    int[] maxDistance = new int[1];
+    long[] covered = new long[1];
+
+    // Act
+    factorizer.factorize(
+        new StringReader(text.toString()), (position, distance, length) -> {
+          maxDistance[0] = Math.max(maxDistance[0], distance);
+          covered[0] += length;
+        });
+
+    // Assert
+    assertTrue(maxDistance[0] < 16, "Expected every distance below the window size");
+    assertEquals(1000, covered[0], "Expected the factors to cover the whole input");
+  }
+
+  /**
+   * Tests that a window smaller than 2 is rejected.
+   */
+  @Test
+  void shouldThrowExceptionWhenWindowIsTooSmall() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> new LZ77Factorizer(1));
+    assertEquals("windowSize must be at least 2", exception.getMessage());
+  }
+}
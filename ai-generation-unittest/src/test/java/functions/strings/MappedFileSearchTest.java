@@ -0,0 +1,96 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedFileSearch class.
+ */
+class MappedFileSearchTest {
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Tests that search reports long file offsets of matches which straddle two windows.
+   */
+  @Test
+  void shouldReportFileOffsetsWhenMatchesStraddleWindows() throws IOException {
+    // Arrange
+    Path file = tempDir.resolve("text.txt");
+    Files.write(file, "ABABAAABAABAB".getBytes(StandardCharsets.US_ASCII));
+    MappedFileSearch searcher = new MappedFileSearch(new BoyerMooreBytePattern("AA".getBytes(StandardCharsets.US_ASCII)), 3);
+    List<Long> offsets = new ArrayList<>();
+
+    // Act
+    searcher.search(file, offsets::add);
+
+    // Assert
+    assertEquals(Arrays.asList(4L, 5L, 8L), offsets, "Expected every occurrence to be reported once");
+  }
+
+  /**
+   * Tests that search returns zero for an empty file.
+   */
+  @Test
+  void shouldReturnZeroWhenFileIsEmpty() throws IOException {
+    // Arrange
+    Path file = tempDir.resolve("empty.txt");
+    Files.write(file, new byte[0]);
+    MappedFileSearch searcher = new MappedFileSearch(new BoyerMooreBytePattern(new byte[] {1}));
+
+    // Act
+    long count = searcher.search(file, offset -> { });
+
+    // Assert
+    assertEquals(0L, count, "Expected no occurrences in an empty file");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when the window is smaller than the pattern.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenWindowIsSmallerThanPattern() {
+    // Arrange
+    BoyerMooreBytePattern pattern = new BoyerMooreBytePattern(new byte[] {1, 2, 3});
+
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new MappedFileSearch(pattern, 2));
+    assertEquals("windowSize must be in [pattern length, 2^31 - 1]", exception.getMessage(), "Expected exception message to match");
+  }
+}
@@ -0,0 +1,119 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedZArray class.
+ */
+class MappedZArrayTest {
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Tests that the Z-values of a small file are computed and readable through get.
+   */
+  @Test
+  void shouldReturnZValuesWhenTextFileIsGiven() throws IOException {
+    // Arrange
+    Path text = Files.write(tempDir.resolve("text.txt"), "aabxaab".getBytes(StandardCharsets.US_ASCII));
+
+    // Act
+    try (MappedZArray z = MappedZArray.calculateZ(text, tempDir.resolve("text.z"), MappedZArray.Width.LONG)) {
+      long[] values = new long[(int) z.length()];
+      for (int i = 0; i < values.length; i++) values[i] = z.get(i);
+
+      // Assert
+      assertArrayEquals(new long[] {7, 1, 0, 0, 3, 1, 0}, values, "Expected the Z-array of aabxaab");
+    }
+  }
+
+  /**
+   * Tests that the output file holds one little-endian int per character.
+   */
+  @Test
+  void shouldWriteLittleEndianIntsWhenWidthIsInt() throws IOException {
+    // Arrange
+    Path text = Files.write(tempDir.resolve("text.txt"), "aaaa".getBytes(StandardCharsets.US_ASCII));
+    Path output = tempDir.resolve("text.z");
+
+    // Act
+    MappedZArray.calculateZ(text, output, MappedZArray.Width.INT).close();
+
+    // Assert
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(output)).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(16, buffer.remaining(), "Expected 4 bytes per character");
+    assertEquals(4, buffer.getInt(0), "Expected Z[0] to be the text length");
+    assertEquals(1, buffer.getInt(12), "Expected Z[3] to be 1");
+  }
+
+  /**
+   * Tests that Width.INT is refused for a text longer than Integer.MAX_VALUE bytes before the output is touched.
+   */
+  @Test
+  void shouldThrowExceptionWhenIntWidthCannotHoldTextLength() throws IOException {
+    // Arrange
+    Path text = tempDir.resolve("large.txt");
+    try (RandomAccessFile file = new RandomAccessFile(text.toFile(), "rw")) {
+      file.setLength(Integer.MAX_VALUE + 1L);
+    }
+    Path output = tempDir.resolve("large.z");
+
+    // Act
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class,
+            () -> MappedZArray.calculateZ(text, output, MappedZArray.Width.INT));
+
+    // Assert
+    assertEquals("Width.INT only takes texts of at most 2^31 - 1 bytes", exception.getMessage());
+    assertFalse(Files.exists(output), "Expected the output file not to be created");
+  }
+
+  /**
+   * Tests that a null width is rejected.
+   */
+  @Test
+  void shouldThrowExceptionWhenWidthIsNull() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class,
+            () -> MappedZArray.calculateZ(tempDir.resolve("a"), tempDir.resolve("b"), null));
+    assertEquals("text, output and width cannot be null", exception.getMessage());
+  }
+}
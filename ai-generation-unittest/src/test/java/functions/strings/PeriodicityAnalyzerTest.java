@@ -0,0 +1,98 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PeriodicityAnalyzer class.
+ */
+class PeriodicityAnalyzerTest {
+
+  /**
+   * Tests that the smallest period of a repeated key is the length of the repeated unit.
+   */
+  @Test
+  void shouldReturnUnitLengthWhenKeyIsPower() {
+    // Arrange
+    PeriodicityAnalyzer analyzer = new PeriodicityAnalyzer();
+
+    // Act
+    int period = analyzer.smallestPeriod("abcabcabc");
+
+    // Assert
+    assertEquals(3, period, "Expected the period of abc repeated");
+    assertTrue(analyzer.isPower("abcabcabc"), "Expected abcabcabc to be a power");
+  }
+
+  /**
+   * Tests that every border is returned, longest first.
+   */
+  @Test
+  void shouldReturnAllBordersWhenKeyOverlapsItself() {
+    // Arrange
+    PeriodicityAnalyzer analyzer = new PeriodicityAnalyzer();
+
+    // Act
+    int[] borders = analyzer.borders("abacaba");
+
+    // Assert
+    assertArrayEquals(new int[] {3, 1}, borders, "Expected borders aba and a");
+  }
+
+  /**
+   * Tests that the sequential and parallel batch methods agree on many keys.
+   */
+  @Test
+  void shouldReturnSamePeriodsWhenBatchRunsInParallel() {
+    // Arrange
+    String[] keys = new String[50_000];
+    for (int i = 0; i < keys.length; i++) keys[i] = String.format("%08d", i % 1000);
+
+    // Act
+    int[] sequential = new PeriodicityAnalyzer().smallestPeriods(keys);
+    int[] parallel = PeriodicityAnalyzer.smallestPeriodsParallel(keys);
+
+    // Assert
+    assertArrayEquals(sequential, parallel, "Expected identical periods");
+    assertEquals(1, sequential[0], "Expected 00000000 to have period 1");
+    assertEquals(8, sequential[1], "Expected 00000001 to have no proper period");
+  }
+
+  /**
+   * Tests that a null key is rejected.
+   */
+  @Test
+  void shouldThrowExceptionWhenKeyIsNull() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> new PeriodicityAnalyzer().smallestPeriod(null));
+    assertEquals("key cannot be null", exception.getMessage());
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RabinKarpBatchMatcher class.
+ */
+class RabinKarpBatchMatcherTest {
+
+  /**
+   * Tests that findOccurrences returns pattern ids and offsets of every occurrence.
+   */
+  @Test
+  void shouldReturnPatternIdsAndOffsetsWhenPatternsAreFound() {
+    // Arrange
+    RabinKarpBatchMatcher matcher = new RabinKarpBatchMatcher(new String[] {"cat", "dog"});
+
+    // Act
+    List<int[]> result = matcher.findOccurrences("dogcatdog");
+
+    // Assert
+    assertEquals(3, result.size(), "Expected three occurrences");
+    assertArrayEquals(new int[] {1, 0}, result.get(0), "Expected dog at offset 0");
+    assertArrayEquals(new int[] {0, 3}, result.get(1), "Expected cat at offset 3");
+    assertArrayEquals(new int[] {1, 6}, result.get(2), "Expected dog at offset 6");
+  }
+
+  /**
+   * Tests that search reports nothing when no pattern occurs.
+   */
+  @Test
+  void shouldReturnZeroWhenNoPatternIsFound() {
+    // Arrange
+    RabinKarpBatchMatcher matcher = new RabinKarpBatchMatcher(new String[] {"xyz", "zyx"});
+
+    // Act
+    int count = matcher.search("abcabcabc", (patternId, offset) -> fail("Unexpected match"));
+
+    // Assert
+    assertEquals(0, count, "Expected no occurrences");
+  }
+
+  /**
+   * Tests that thousands of patterns are matched in a single pass.
+   */
+  @Test
+  void shouldFindEveryPatternWhenManyPatternsAreGiven() {
+    // Arrange
+    String[] patterns = new String[10_000];
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < patterns.length; i++) {
+      patterns[i] = String.format("%08d", i);
+      if (i % 100 == 0) text.append(patterns[i]).append('|');
+    }
+    RabinKarpBatchMatcher matcher = new RabinKarpBatchMatcher(patterns);
+
+    // Act
+    int count = matcher.search(text, (patternId, offset) -> {});
+
+    // Assert
+    assertEquals(100, count, "Expected every embedded pattern to be found");
+    assertEquals(8, matcher.patternLength(), "Expected the common pattern length");
+  }
+
+  /**
+   * Tests that patterns of different lengths are rejected.
+   */
+  @Test
+  void shouldThrowExceptionWhenPatternLengthsDiffer() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> new RabinKarpBatchMatcher(new String[] {"ab", "abc"}));
+    assertEquals("patterns must be non-empty and of equal length", exception.getMessage());
+  }
+}
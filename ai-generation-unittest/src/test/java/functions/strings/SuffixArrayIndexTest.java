@@ -0,0 +1,138 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SuffixArrayIndex class.
+ */
+class SuffixArrayIndexTest {
+
+  /**
+   * Tests that the suffix array of a known string is correctly built.
+   */
+  @Test
+  void shouldBuildSuffixArrayWhenTextIsGiven() {
+    // Arrange
+    SuffixArrayIndex index = new SuffixArrayIndex("banana");
+
+    // Act
+    int[] sa = index.suffixArray();
+
+    // Assert
+    assertArrayEquals(new int[] {5, 3, 1, 0, 4, 2}, sa, "Expected the suffix array of banana");
+  }
+
+  /**
+   * Tests that induced sorting over a char buffer agrees with the String based construction.
+   */
+  @Test
+  void shouldBuildSameSuffixArrayWhenSortingCharBufferByInducing() {
+    // Arrange
+    char[] buffer = "mississippi$unused".toCharArray();
+
+    // Act
+    int[] sa = SuffixArrayIndex.buildSuffixArray(buffer, 12);
+
+    // Assert
+    assertArrayEquals(
+        new int[] {11, 10, 7, 4, 1, 0, 9, 8, 6, 3, 5, 2}, sa,
+        "Expected the suffix array of mississippi$");
+  }
+
+  /**
+   * Tests that the LCP array of a known string is correctly built.
+   */
+  @Test
+  void shouldBuildLcpArrayWhenTextIsGiven() {
+    // Arrange
+    SuffixArrayIndex index = new SuffixArrayIndex("banana");
+
+    // Act
+    int[] lcp = index.lcpArray();
+
+    // Assert
+    assertArrayEquals(new int[] {0, 1, 3, 0, 0, 2}, lcp, "Expected the LCP array of banana");
+  }
+
+  /**
+   * Tests that occurrences returns sorted indexes of the pattern.
+   */
+  @Test
+  void shouldReturnSortedOccurrencesWhenPatternIsFound() {
+    // Arrange
+    SuffixArrayIndex index = new SuffixArrayIndex("ABABAAABAABAB");
+
+    // Act
+    int[] occurrences = index.occurrences("AA");
+
+    // Assert
+    assertArrayEquals(new int[] {4, 5, 8}, occurrences, "Expected sorted indexes of the pattern");
+  }
+
+  /**
+   * Tests that count returns zero when the pattern is not found.
+   */
+  @Test
+  void shouldReturnZeroWhenPatternIsNotFound() {
+    // Arrange
+    SuffixArrayIndex index = new SuffixArrayIndex("ABABAAABAABAB");
+
+    // Act
+    int count = index.count("XYZ");
+
+    // Assert
+    assertEquals(0, count, "Expected no occurrences of an absent pattern");
+  }
+
+  /**
+   * Tests that longestRepeatedSubstring returns the longest repeat.
+   */
+  @Test
+  void shouldReturnLongestRepeatWhenTextHasRepeats() {
+    // Arrange
+    SuffixArrayIndex index = new SuffixArrayIndex("banana");
+
+    // Act
+    String repeat = index.longestRepeatedSubstring();
+
+    // Assert
+    assertEquals("ana", repeat, "Expected ana to be the longest repeat");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when the text is null.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenTextIsNull() {
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new SuffixArrayIndex(null));
+    assertEquals("text cannot be null", exception.getMessage(), "Expected exception message to match");
+  }
+}
@@ -0,0 +1,74 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SymbolIndexTable class.
+ */
+class SymbolIndexTableTest {
+
+  /**
+   * Tests that get returns the last index put for a symbol, including negative and zero symbols.
+   */
+  @Test
+  void shouldReturnLastIndexWhenSymbolIsPutRepeatedly() {
+    // Arrange
+    SymbolIndexTable table = new SymbolIndexTable();
+
+    // Act
+    table.put(0, 0);
+    table.put(Long.MIN_VALUE, 1);
+    table.put(0, 2);
+    table.put(-7, 3);
+
+    // Assert
+    assertEquals(2, table.get(0), "Expected the last index of 0");
+    assertEquals(1, table.get(Long.MIN_VALUE), "Expected the last index of Long.MIN_VALUE");
+    assertEquals(3, table.get(-7), "Expected the last index of -7");
+    assertEquals(-1, table.get(7), "Expected -1 for a symbol never put");
+  }
+
+  /**
+   * Tests that every symbol stays reachable after the table grows many times.
+   */
+  @Test
+  void shouldKeepEverySymbolWhenTableGrows() {
+    // Arrange
+    SymbolIndexTable table = new SymbolIndexTable();
+
+    // Act
+    for (int i = 0; i < 10_000; i++) table.put(i * 1_000_003L, i);
+
+    // Assert
+    for (int i = 0; i < 10_000; i++) {
+      assertEquals(i, table.get(i * 1_000_003L), "Expected the index of symbol " + i);
+    }
+    assertEquals(-1, table.get(1), "Expected -1 for a symbol never put");
+  }
+}
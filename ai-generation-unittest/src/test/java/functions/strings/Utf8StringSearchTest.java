@@ -0,0 +1,131 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Utf8StringSearch class.
+ */
+class Utf8StringSearchTest {
+
+  /**
+   * Tests that find returns byte offsets when the pattern is found.
+   */
+  @Test
+  void shouldReturnByteOffsetsWhenPatternIsFound() {
+    // Arrange
+    Utf8StringSearch search = new Utf8StringSearch("ж");
+    byte[] text = "aжbж".getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    List<Integer> result = search.find(text);
+
+    // Assert
+    assertEquals(Arrays.asList(1, 4), result, "Expected byte offsets of each occurrence");
+  }
+
+  /**
+   * Tests that find returns an empty list when the text is null.
+   */
+  @Test
+  void shouldReturnEmptyListWhenTextIsNull() {
+    // Arrange
+    Utf8StringSearch search = new Utf8StringSearch("abc");
+
+    // Act
+    List<Integer> result = search.find(null);
+
+    // Assert
+    assertTrue(result.isEmpty(), "Expected no occurrences for null text");
+  }
+
+  /**
+   * Tests that char offsets count a supplementary code point as two chars.
+   */
+  @Test
+  void shouldReportCharOffsetsWhenTextHasSupplementaryCodePoints() {
+    // Arrange
+    String text = "😀é😀x";
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    Utf8StringSearch search = new Utf8StringSearch("😀");
+    List<Integer> byteOffsets = new ArrayList<>();
+    List<Integer> charOffsets = new ArrayList<>();
+
+    // Act
+    int count =
+        search.forEachWithCharOffsets(
+            bytes,
+            0,
+            bytes.length,
+            (byteOffset, charOffset) -> {
+              byteOffsets.add(byteOffset);
+              charOffsets.add(charOffset);
+            });
+
+    // Assert
+    assertEquals(2, count, "Expected two occurrences");
+    assertEquals(Arrays.asList(0, 6), byteOffsets, "Expected byte offsets");
+    assertEquals(Arrays.asList(0, 3), charOffsets, "Expected String indexes as char offsets");
+  }
+
+  /**
+   * Tests that searching a ByteBuffer leaves its position untouched.
+   */
+  @Test
+  void shouldKeepBufferPositionWhenSearchingByteBuffer() {
+    // Arrange
+    Utf8StringSearch search = new Utf8StringSearch("ür");
+    ByteBuffer text = ByteBuffer.wrap("für für".getBytes(StandardCharsets.UTF_8));
+    List<Integer> offsets = new ArrayList<>();
+
+    // Act
+    search.forEach(text, 0, text.limit(), offsets::add);
+
+    // Assert
+    assertEquals(Arrays.asList(1, 6), offsets, "Expected byte offsets of each occurrence");
+    assertEquals(0, text.position(), "Expected the buffer position to be unchanged");
+  }
+
+  /**
+   * Tests that the constructor rejects a pattern with an unpaired surrogate.
+   */
+  @Test
+  void shouldThrowExceptionWhenPatternHasUnpairedSurrogate() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> new Utf8StringSearch("\uDC00"));
+    assertEquals("pattern is not well-formed UTF-16", exception.getMessage());
+  }
+}
@@ -0,0 +1,101 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WildcardMatcher class.
+ */
+class WildcardMatcherTest {
+
+  /**
+   * Tests that wildcard positions match any text character.
+   */
+  @Test
+  void shouldReturnOffsetsWhenPatternWithWildcardsIsFound() {
+    // Arrange
+    WildcardMatcher matcher = new WildcardMatcher("d?g");
+
+    // Act
+    List<Integer> result = matcher.find("dogdigdug cat");
+
+    // Assert
+    assertEquals(Arrays.asList(0, 3, 6), result, "Expected every d?g alignment");
+  }
+
+  /**
+   * Tests that a long pattern, matched through the transforms, finds its planted occurrences.
+   */
+  @Test
+  void shouldFindPlantedOccurrencesWhenPatternIsLong() {
+    // Arrange
+    StringBuilder pattern = new StringBuilder();
+    for (int i = 0; i < 600; i++) pattern.append(i % 7 == 0 ? '*' : (char) ('a' + i % 5));
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 5000; i++) text.append('x');
+    String occurrence = pattern.toString().replace('*', 'z');
+    text.replace(100, 700, occurrence).replace(3000, 3600, occurrence);
+    WildcardMatcher matcher = new WildcardMatcher(pattern.toString(), '*');
+
+    // Act
+    List<Integer> result = matcher.find(text.toString());
+
+    // Assert
+    assertEquals(Arrays.asList(100, 3000), result, "Expected both planted occurrences");
+  }
+
+  /**
+   * Tests that forEach counts nothing when the text is shorter than the pattern.
+   */
+  @Test
+  void shouldReturnZeroWhenTextIsShorterThanPattern() {
+    // Arrange
+    WildcardMatcher matcher = new WildcardMatcher("a?b?c");
+
+    // Act
+    int count = matcher.forEach("a?b", offset -> fail("Unexpected match"));
+
+    // Assert
+    assertEquals(0, count, "Expected no occurrences");
+  }
+
+  /**
+   * Tests that an empty pattern is rejected.
+   */
+  @Test
+  void shouldThrowExceptionWhenPatternIsEmpty() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> new WildcardMatcher(""));
+    assertEquals("pattern cannot be null or empty", exception.getMessage());
+  }
+}
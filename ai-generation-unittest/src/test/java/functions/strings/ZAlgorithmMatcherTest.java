@@ -0,0 +1,113 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ZAlgorithmMatcher class.
+ */
+class ZAlgorithmMatcherTest {
+
+  /**
+   * Tests that find returns correct indexes when the pattern is found.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenPatternIsFound() {
+    // Arrange
+    ZAlgorithmMatcher matcher = new ZAlgorithmMatcher("AA");
+
+    // Act
+    List<Integer> result = matcher.find("ABABAAABAABAB");
+
+    // Assert
+    assertEquals(Arrays.asList(4, 5, 8), result, "Expected correct indexes for the pattern");
+  }
+
+  /**
+   * Tests that find returns an empty list when the pattern is not found.
+   */
+  @Test
+  void shouldReturnEmptyListWhenPatternIsNotFound() {
+    // Arrange
+    ZAlgorithmMatcher matcher = new ZAlgorithmMatcher("XYZ");
+
+    // Act
+    List<Integer> result = matcher.find("ABABAAABAABAB");
+
+    // Assert
+    assertTrue(result.isEmpty(), "Expected no occurrences when the pattern is not found");
+  }
+
+  /**
+   * Tests that a case-insensitive matcher finds every case variant of the pattern.
+   */
+  @Test
+  void shouldReturnCorrectIndexesWhenIgnoringCase() {
+    // Arrange
+    ZAlgorithmMatcher matcher = new ZAlgorithmMatcher("StraSSe", true);
+
+    // Act
+    List<Integer> result = matcher.find("strasse STRASSE Strasse");
+
+    // Assert
+    assertEquals(Arrays.asList(0, 8, 16), result, "Expected every case variant to match");
+  }
+
+  /**
+   * Tests that search reports absolute offsets while streaming a reader.
+   */
+  @Test
+  void shouldReportOffsetsWhenStreamingReader() throws IOException {
+    // Arrange
+    ZAlgorithmMatcher matcher = new ZAlgorithmMatcher("aab");
+    List<Long> offsets = new ArrayList<>();
+
+    // Act
+    matcher.search(new StringReader("aaabaabaab"), offsets::add);
+
+    // Assert
+    assertEquals(Arrays.asList(1L, 4L, 7L), offsets, "Expected every overlapping occurrence in the stream");
+  }
+
+  /**
+   * Tests that the constructor throws IllegalArgumentException when the pattern is empty.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenPatternIsEmpty() {
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new ZAlgorithmMatcher(""));
+    assertEquals("pattern cannot be null or empty", exception.getMessage(), "Expected exception message to match");
+  }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Unit tests for ZAlgorithm class.
@@ -142,4 +143,96 @@ class ZAlgorithmTest {
     // Assert
     assertArrayEquals(expected, actual, "Expected Z-array to be correctly calculated for a string with no repeated characters");
   }
+
+  /**
+   * Tests that calculateZ writes the Z-array of a char slice into the caller supplied workspace.
+   */
+  @Test
+  void shouldWriteZArrayIntoWorkspaceWhenCharSliceIsGiven() {
+    // Arrange
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+    char[] text = "xxabababab".toCharArray();
+    int[] workspace = new int[8];
+
+    // Act
+    int[] actual = zAlgorithm.calculateZ(text, 2, 8, workspace);
+
+    // Assert
+    assertArrayEquals(new int[] {8, 0, 6, 0, 4, 0, 2, 0}, actual, "Expected Z-array of the slice to be written into the workspace");
+  }
+
+  /**
+   * Tests that calculateZ computes the Z-array of a byte slice.
+   */
+  @Test
+  void shouldCalculateZArrayWhenByteSliceIsGiven() {
+    // Arrange
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+    byte[] text = {'a', 'a', 'a', 'b'};
+    int[] workspace = new int[3];
+
+    // Act
+    int[] actual = zAlgorithm.calculateZ(text, 0, 3, workspace);
+
+    // Assert
+    assertArrayEquals(new int[] {3, 2, 1}, actual, "Expected Z-array of the byte slice");
+  }
+
+  /**
+   * Tests that calculateZ throws IllegalArgumentException when the workspace is too small.
+   */
+  @Test
+  void shouldThrowIllegalArgumentExceptionWhenWorkspaceIsTooSmall() {
+    // Arrange
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+
+    // Act & Assert
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> zAlgorithm.calculateZ(new char[4], 0, 4, new int[3]));
+    assertEquals("Z is shorter than the slice", exception.getMessage(), "Expected exception message to match");
+  }
+
+  /**
+   * Tests that calculateZ throws IndexOutOfBoundsException when the slice is outside of the text.
+   */
+  @Test
+  void shouldThrowIndexOutOfBoundsExceptionWhenSliceIsOutsideText() {
+    // Arrange
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+
+    // Act & Assert
+    assertThrows(IndexOutOfBoundsException.class, () -> zAlgorithm.calculateZ(new byte[4], 2, 3, new int[3]), "Expected an exception for a slice past the end of the text");
+  }
+
+  /**
+   * Tests that calculateZ computes the Z-array of an int token slice.
+   */
+  @Test
+  void shouldCalculateZArrayWhenIntTokenSliceIsGiven() {
+    // Arrange
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+    int[] tokens = {70000, 70000, 5, 70000, 70000};
+
+    // Act
+    int[] actual = zAlgorithm.calculateZ(tokens, 0, tokens.length, new int[5]);
+
+    // Assert
+    assertArrayEquals(new int[] {5, 1, 0, 2, 1}, actual, "Expected Z-array of the token slice");
+  }
+
+  /**
+   * Tests that findOccurrences locates a long token sequence in another.
+   */
+  @Test
+  void shouldReturnOccurrencesWhenLongTokenPatternIsFound() {
+    // Arrange
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+    long[] text = {1L << 40, -7, 1L << 40, -7, 1L << 40};
+    long[] pattern = {1L << 40, -7, 1L << 40};
+
+    // Act
+    List<Integer> result = zAlgorithm.findTokenOccurrences(text, pattern);
+
+    // Assert
+    assertEquals(Arrays.asList(0, 2), result, "Expected overlapping occurrences of the tokens");
+  }
 }
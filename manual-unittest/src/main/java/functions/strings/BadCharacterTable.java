@@ -0,0 +1,60 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Bad-character table for Boyer-Moore style searches which covers every char value. Characters
+ * below 256 are looked up in a flat array exactly like the classic table, while the few characters
+ * of the pattern above U+00FF go into a SymbolIndexTable sized to the pattern's distinct
+ * characters, so a full 65,536 entry table is never allocated.
+ */
+package functions.strings;
+
+import java.util.Arrays;
+
+final class BadCharacterTable {
+
+  private static final int DIRECT_SIZE = 256;
+  private static final int ABSENT = -1;
+
+  // Last index in the pattern of every character below 256, or ABSENT
+  private final int[] direct = new int[DIRECT_SIZE];
+
+  // Last index of every character above U+00FF in the pattern
+  private final SymbolIndexTable high = new SymbolIndexTable();
+
+  BadCharacterTable(CharSequence pattern) {
+    Arrays.fill(direct, ABSENT);
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (c < DIRECT_SIZE) direct[c] = i;
+      else high.put(c, i);
+    }
+  }
+
+  // Returns the last index of c in the pattern, or -1 if c does not occur in it
+  int lastIndexOf(char c) {
+    return c < DIRECT_SIZE ? direct[c] : high.get(c);
+  }
+}
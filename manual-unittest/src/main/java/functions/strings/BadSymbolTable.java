@@ -0,0 +1,64 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Bad-symbol table for Boyer-Moore searches over int or long token sequences, whose symbol space
+ * is far too large for a flat array. Symbols in [0, 256) are looked up directly like the classic
+ * table; every other symbol of the pattern goes into a SymbolIndexTable sized to the pattern's
+ * distinct symbols, so lookups stay O(1) whatever the range of token ids.
+ */
+package functions.strings;
+
+import java.util.Arrays;
+
+final class BadSymbolTable {
+
+  private static final int DIRECT_SIZE = 256;
+  private static final int ABSENT = -1;
+
+  // Last index in the pattern of every symbol in [0, 256), or ABSENT
+  private final int[] direct = new int[DIRECT_SIZE];
+
+  // Last index of every other symbol in the pattern
+  private final SymbolIndexTable hashed = new SymbolIndexTable();
+
+  BadSymbolTable(long[] pattern) {
+    Arrays.fill(direct, ABSENT);
+    for (int i = 0; i < pattern.length; i++) {
+      long symbol = pattern[i];
+      if (isDirect(symbol)) direct[(int) symbol] = i;
+      else hashed.put(symbol, i);
+    }
+  }
+
+  // Returns the last index of symbol in the pattern, or -1 if it does not occur in it
+  int lastIndexOf(long symbol) {
+    return isDirect(symbol) ? direct[(int) symbol] : hashed.get(symbol);
+  }
+
+  private static boolean isDirect(long symbol) {
+    return symbol >= 0 && symbol < DIRECT_SIZE;
+  }
+}
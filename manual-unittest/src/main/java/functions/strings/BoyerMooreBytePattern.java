@@ -0,0 +1,132 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * A Boyer-Moore pattern over raw bytes, used to search binary or encoded input without decoding it
+ * to a String first. Since a byte has only 256 values the bad-character table is a flat array.
+ * Instances are immutable and can be shared between threads.
+ */
+package functions.strings;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+public final class BoyerMooreBytePattern {
+
+  private static final int ALPHABET_SIZE = 256;
+
+  private final byte[] pattern;
+
+  // Last index in the pattern of every byte value, or -1
+  private final int[] skipTable = new int[ALPHABET_SIZE];
+
+  /**
+   * Compiles a byte pattern for repeated searches
+   *
+   * @param pattern the bytes being searched for, must not be null or empty
+   */
+  public BoyerMooreBytePattern(byte[] pattern) {
+    if (pattern == null || pattern.length == 0) {
+      throw new IllegalArgumentException("pattern cannot be null or empty");
+    }
+    this.pattern = pattern.clone();
+    Arrays.fill(skipTable, -1);
+    for (int i = 0; i < pattern.length; i++) skipTable[pattern[i] & 0xFF] = i;
+  }
+
+  public int length() {
+    return pattern.length;
+  }
+
+  /**
+   * Passes the index of every occurrence of this pattern in text[from, to) to consumer
+   *
+   * @param text the bytes being searched in
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param consumer receives the index in text of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(byte[] text, int from, int to, IntConsumer consumer) {
+    if (text == null || from < 0 || to > text.length || pattern.length > to - from) {
+      return 0;
+    }
+    int count = 0;
+    int n = pattern.length;
+    for (int textIndex = from + n - 1, patternIndex = n - 1; textIndex < to; ) {
+      if (patternIndex >= 0 && pattern[patternIndex] == text[textIndex]) {
+        if (patternIndex == 0) {
+          consumer.accept(textIndex);
+          count++;
+        } else {
+          textIndex--;
+        }
+        patternIndex--;
+      } else {
+        textIndex += n - min(max(patternIndex, 0), skipTable[text[textIndex] & 0xFF] + 1);
+        patternIndex = n - 1;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Passes the index of every occurrence of this pattern in text[from, to) to consumer. Reads use
+   * absolute positions, so the position and limit of text are left untouched.
+   *
+   * @param text the bytes being searched in, for example a mapped file region
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param consumer receives the index in text of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(ByteBuffer text, int from, int to, IntConsumer consumer) {
+    if (text == null || from < 0 || to > text.limit() || pattern.length > to - from) {
+      return 0;
+    }
+    int count = 0;
+    int n = pattern.length;
+    for (int textIndex = from + n - 1, patternIndex = n - 1; textIndex < to; ) {
+      byte b = text.get(textIndex);
+      if (patternIndex >= 0 && pattern[patternIndex] == b) {
+        if (patternIndex == 0) {
+          consumer.accept(textIndex);
+          count++;
+        } else {
+          textIndex--;
+        }
+        patternIndex--;
+      } else {
+        textIndex += n - min(max(patternIndex, 0), skipTable[b & 0xFF] + 1);
+        patternIndex = n - 1;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,158 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Boyer-Moore search with both the bad-character and the good-suffix rule plus the Galil rule.
+ * After a full match (or any shift by the pattern's period) the Galil rule remembers how much of
+ * the pattern is already known to match, so those characters are never compared again. This gives
+ * guaranteed O(n + m) time even on adversarial periodic inputs such as "AAAA" against "AAAA...",
+ * where the plain bad-character search degrades to O(n * m).
+ */
+package functions.strings;
+
+import static java.lang.Math.max;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+public final class BoyerMooreGalilSearch {
+
+  private final String pattern;
+  private final BadCharacterTable badCharacter;
+
+  // goodSuffix[i] is the shift to apply after a mismatch at pattern index i - 1, goodSuffix[0] is
+  // the shift after a full match and equals the period of the pattern
+  private final int[] goodSuffix;
+
+  /**
+   * Compiles a pattern for repeated searches
+   *
+   * @param pattern the string being searched for, must not be null or empty
+   */
+  public BoyerMooreGalilSearch(String pattern) {
+    if (pattern == null || pattern.isEmpty()) {
+      throw new IllegalArgumentException("pattern cannot be null or empty");
+    }
+    this.pattern = pattern;
+    this.badCharacter = new BadCharacterTable(pattern);
+    this.goodSuffix = goodSuffixShifts(pattern);
+  }
+
+  /**
+   * Finds every occurrence of the pattern in text
+   *
+   * @param text the string being searched in
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> find(String text) {
+    List<Integer> occurrences = new ArrayList<>();
+    forEach(text, occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Passes the index of every occurrence of the pattern in text to consumer
+   *
+   * @param text the string being searched in
+   * @param consumer receives the index of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(String text, IntConsumer consumer) {
+    if (text == null || pattern.length() > text.length()) return 0;
+    int m = pattern.length();
+    int period = goodSuffix[0];
+    int count = 0;
+    // Pattern indexes below lowerBound are known to match at the current alignment
+    int lowerBound = 0;
+    for (int s = 0; s <= text.length() - m; ) {
+      int j = m - 1;
+      while (j >= lowerBound && pattern.charAt(j) == text.charAt(s + j)) j--;
+      if (j < lowerBound) {
+        consumer.accept(s);
+        count++;
+        s += period;
+        // After shifting by the period the first m - period characters are already matched
+        lowerBound = m - period;
+      } else {
+        int shift = max(goodSuffix[j + 1], j - badCharacter.lastIndexOf(text.charAt(s + j)));
+        s += shift;
+        // A shift by the period keeps a matching prefix only when it follows a full match
+        lowerBound = 0;
+      }
+    }
+    return count;
+  }
+
+  // Strong good-suffix table computed from the borders of the pattern's suffixes
+  private static int[] goodSuffixShifts(String pattern) {
+    int m = pattern.length();
+    int[] shift = new int[m + 1];
+    int[] border = new int[m + 1];
+    int i = m, j = m + 1;
+    border[i] = j;
+    while (i > 0) {
+      while (j <= m && pattern.charAt(i - 1) != pattern.charAt(j - 1)) {
+        if (shift[j] == 0) shift[j] = j - i;
+        j = border[j];
+      }
+      border[--i] = --j;
+    }
+    j = border[0];
+    for (i = 0; i <= m; i++) {
+      if (shift[i] == 0) shift[i] = j;
+      if (i == j) j = border[j];
+    }
+    return shift;
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+  // Compares the search on periodic adversarial inputs against BoyerMooreStringSearch
+  public static void main(String[] args) {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 1 << 20; i++) builder.append('A');
+    String text = builder.toString();
+
+    for (int m : new int[] {16, 256, 1024}) {
+      String pattern = text.substring(0, m);
+      long start = System.nanoTime();
+      int galilMatches = new BoyerMooreGalilSearch(pattern).forEach(text, offset -> {});
+      long galilNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      int plainMatches = boyerMoore.findOccurrences(text, pattern).size();
+      long plainNanos = System.nanoTime() - start;
+
+      System.out.printf(
+          "m=%d galil=%dms (%d matches) bad-character only=%dms (%d matches)%n",
+          m, galilNanos / 1_000_000, galilMatches, plainNanos / 1_000_000, plainMatches);
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * A Boyer-Moore pattern whose bad-character table is computed once and reused for every search.
+ * Instances are immutable, so a single compiled pattern can be shared between threads.
+ *
+ * <p>A case-insensitive pattern stores its folded form and builds the bad-character table from it,
+ * then folds each text character as it is read, so the text is never copied.
+ */
+package functions.strings;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+public final class BoyerMoorePattern {
+
+  private final String pattern;
+  private final boolean ignoreCase;
+
+  // The pattern as compared against the text, folded when ignoring case
+  private final String needle;
+  private final BadCharacterTable skipTable;
+
+  /**
+   * Compiles a pattern for repeated searches
+   *
+   * @param pattern the string being searched for, must not be null or empty
+   */
+  public BoyerMoorePattern(String pattern) {
+    this(pattern, false);
+  }
+
+  /**
+   * Compiles a pattern for repeated searches
+   *
+   * @param pattern the string being searched for, must not be null or empty
+   * @param ignoreCase whether characters are compared after simple case folding
+   */
+  public BoyerMoorePattern(String pattern, boolean ignoreCase) {
+    this(pattern, ignoreCase, null);
+  }
+
+  BoyerMoorePattern(String pattern, BadCharacterTable skipTable) {
+    this(pattern, false, skipTable);
+  }
+
+  private BoyerMoorePattern(String pattern, boolean ignoreCase, BadCharacterTable skipTable) {
+    if (pattern == null || pattern.isEmpty()) {
+      throw new IllegalArgumentException("pattern cannot be null or empty");
+    }
+    this.pattern = pattern;
+    this.ignoreCase = ignoreCase;
+    this.needle = ignoreCase ? CaseFolding.fold(pattern) : pattern;
+    this.skipTable = skipTable != null ? skipTable : new BadCharacterTable(needle);
+  }
+
+  public String pattern() {
+    return pattern;
+  }
+
+  public boolean ignoreCase() {
+    return ignoreCase;
+  }
+
+  /**
+   * Finds every occurrence of this pattern in text
+   *
+   * @param text the string being searched in
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> find(String text) {
+    List<Integer> occurrences = new ArrayList<>();
+    forEach(text, occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Passes the index of every occurrence of this pattern in text to consumer, without boxing
+   *
+   * @param text the string being searched in
+   * @param consumer receives the index of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(String text, IntConsumer consumer) {
+    return scan(text, 0, length(text), Integer.MAX_VALUE, consumer, null);
+  }
+
+  /**
+   * Passes the index of at most limit occurrences to consumer, then stops searching
+   *
+   * @param text the string being searched in
+   * @param limit the maximum number of occurrences to report
+   * @param consumer receives the index of each occurrence
+   * @return the number of occurrences reported
+   */
+  public int forEach(String text, int limit, IntConsumer consumer) {
+    return scan(text, 0, length(text), limit, consumer, null);
+  }
+
+  /**
+   * Passes the index of every occurrence of this pattern lying entirely in text[from, to) to
+   * consumer
+   *
+   * @param text the string being searched in
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param consumer receives the index in text of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(String text, int from, int to, IntConsumer consumer) {
+    if (text == null || from < 0 || to > text.length()) return 0;
+    return scan(text, from, to, Integer.MAX_VALUE, consumer, null);
+  }
+
+  /**
+   * Writes the indexes of occurrences into out, stopping once out is full
+   *
+   * @param text the string being searched in
+   * @param out the caller supplied array receiving the indexes
+   * @return the number of indexes written to out
+   */
+  public int find(String text, int[] out) {
+    return scan(text, 0, length(text), out.length, null, out);
+  }
+
+  /**
+   * @param text the string being searched in
+   * @return the number of occurrences of this pattern in text
+   */
+  public int count(String text) {
+    return scan(text, 0, length(text), Integer.MAX_VALUE, null, null);
+  }
+
+  /**
+   * @param text the string being searched in
+   * @return the index of the first occurrence of this pattern in text, or -1 if there is none
+   */
+  public int findFirst(String text) {
+    int[] first = {-1};
+    scan(text, 0, length(text), 1, null, first);
+    return first[0];
+  }
+
+  /**
+   * Passes the index of every occurrence of this pattern in text[from, to) to consumer
+   *
+   * @param text the characters being searched in
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param consumer receives the index in text of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(char[] text, int from, int to, IntConsumer consumer) {
+    if (text == null || from < 0 || to > text.length || needle.length() > to - from) {
+      return 0;
+    }
+    int count = 0;
+    int n = needle.length();
+    for (int textIndex = from + n - 1, patternIndex = n - 1; textIndex < to; ) {
+      char c = ignoreCase ? CaseFolding.fold(text[textIndex]) : text[textIndex];
+      if (patternIndex >= 0 && needle.charAt(patternIndex) == c) {
+        if (patternIndex == 0) {
+          consumer.accept(textIndex);
+          count++;
+        } else {
+          textIndex--;
+        }
+        patternIndex--;
+      } else {
+        textIndex += n - min(max(patternIndex, 0), skipTable.lastIndexOf(c) + 1);
+        patternIndex = n - 1;
+      }
+    }
+    return count;
+  }
+
+  // Boyer-Moore loop shared by every result mode. Each occurrence is written to out when present,
+  // otherwise passed to sink when present, and the search stops after limit occurrences.
+  private int scan(String text, int from, int to, int limit, IntConsumer sink, int[] out) {
+    if (text == null || needle.length() > to - from || limit <= 0) {
+      return 0;
+    }
+    int count = 0;
+    int n = needle.length();
+    for (int textIndex = from + n - 1, patternIndex = n - 1; textIndex < to; ) {
+      char c = ignoreCase ? CaseFolding.fold(text.charAt(textIndex)) : text.charAt(textIndex);
+      if (patternIndex >= 0 && needle.charAt(patternIndex) == c) {
+        if (patternIndex == 0) {
+          if (out != null) out[count] = textIndex;
+          else if (sink != null) sink.accept(textIndex);
+          if (++count == limit) return count;
+        } else {
+          textIndex--;
+        }
+        patternIndex--;
+      } else {
+        textIndex += n - min(max(patternIndex, 0), skipTable.lastIndexOf(c) + 1);
+        patternIndex = n - 1;
+      }
+    }
+    return count;
+  }
+
+  private static int length(String text) {
+    return text == null ? 0 : text.length();
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+}
@@ -0,0 +1,133 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * A bounded, thread-safe cache of compiled Boyer-Moore patterns. Hot patterns are compiled once
+ * and then shared by every thread which asks for them.
+ *
+ * <p>Eviction approximates least-recently-used with the CLOCK (second chance) policy. A hit only
+ * marks its entry as referenced, so concurrent lookups never take a lock. A miss that overflows
+ * the capacity walks the patterns in insertion order, giving referenced ones a second chance and
+ * evicting the first one not used since it was last passed over.
+ */
+package functions.strings;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BoyerMoorePatternCache {
+
+  private final int capacity;
+  private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+  // Every cached entry in the order the clock hand visits them
+  private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private static final class Entry {
+
+    final String pattern;
+    final BoyerMoorePattern compiled;
+    volatile boolean referenced;
+
+    Entry(String pattern, BoyerMoorePattern compiled) {
+      this.pattern = pattern;
+      this.compiled = compiled;
+    }
+  }
+
+  public BoyerMoorePatternCache(int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns the compiled form of pattern, compiling it on a miss
+   *
+   * @param pattern the string being searched for, must not be null or empty
+   * @return the shared compiled pattern
+   */
+  public BoyerMoorePattern get(String pattern) {
+    if (pattern == null || pattern.isEmpty()) {
+      throw new IllegalArgumentException("pattern cannot be null or empty");
+    }
+    Entry entry = cache.get(pattern);
+    if (entry != null) {
+      hits.increment();
+      // Skip the write when already set so hot entries do not bounce between cores
+      if (!entry.referenced) entry.referenced = true;
+      return entry.compiled;
+    }
+    misses.increment();
+    // Compile outside of any lock so a miss does not block lookups of other patterns
+    Entry compiled = new Entry(pattern, new BoyerMoorePattern(pattern));
+    Entry raced = cache.putIfAbsent(pattern, compiled);
+    if (raced != null) return raced.compiled;
+    clock.add(compiled);
+    evict();
+    return compiled.compiled;
+  }
+
+  // Advances the clock hand until the cache is back within its capacity
+  private void evict() {
+    while (cache.size() > capacity) {
+      Entry candidate = clock.poll();
+      if (candidate == null) return;
+      if (candidate.referenced) {
+        candidate.referenced = false;
+        clock.add(candidate);
+      } else {
+        cache.remove(candidate.pattern, candidate);
+      }
+    }
+  }
+
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  public long missCount() {
+    return misses.sum();
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public void clear() {
+    // Removing through the clock keeps every cached entry on it even when a miss races the clear
+    for (Entry entry = clock.poll(); entry != null; entry = clock.poll()) {
+      cache.remove(entry.pattern, entry);
+    }
+  }
+}
@@ -35,11 +35,19 @@ import static java.lang.Math.min;
 import static java.util.Objects.isNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
 
-public class BoyerMooreStringSearch {
+public class BoyerMooreStringSearch implements StringSearcher {
 
-  private static final int MAX_ALPHABET_SIZE = 256;
+  // Texts shorter than this are searched sequentially since splitting them costs more than it saves
+  static final int PARALLEL_THRESHOLD = 1 << 20;
+
+  // The smallest number of match start positions handed to a single fork/join task
+  private static final int MIN_SEGMENT_SIZE = 1 << 16;
 
   /**
    * Performs Boyer-Moore search on a given string with a given pattern
@@ -48,6 +56,7 @@ public class BoyerMooreStringSearch {
    * @param pattern the string being searched for
    * @return List of indexes where the pattern occurs
    */
+  @Override
   public List<Integer> findOccurrences(String text, String pattern) {
     if (isNull(text)
         || isNull(pattern)
@@ -55,33 +64,157 @@ public class BoyerMooreStringSearch {
         || pattern.length() == 0) {
       return new ArrayList<>();
     }
-    List<Integer> occurrences = new ArrayList<>();
-    int[] skipTable = generateSkipTable(pattern);
-
-    int n = pattern.length();
-    for (int textIndex = n - 1, patternIndex = n - 1; textIndex < text.length(); ) {
-      // Found a match!
-      if (patternIndex >= 0 && pattern.charAt(patternIndex) == text.charAt(textIndex)) {
-        if (patternIndex == 0) {
-          occurrences.add(textIndex);
-        } else {
-          textIndex--;
-        }
-        patternIndex--;
-      } else {
-        textIndex += n - min(max(patternIndex, 0), skipTable[text.charAt(textIndex)] + 1);
-        patternIndex = n - 1;
-      }
+    return new BoyerMoorePattern(pattern, generateSkipTable(pattern)).find(text);
+  }
+
+  /**
+   * Performs Boyer-Moore search on a token sequence, such as text tokenised into symbol ids
+   *
+   * @param text the symbols being searched in
+   * @param pattern the symbols being searched for
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> findTokenOccurrences(int[] text, int[] pattern) {
+    if (isNull(text) || isNull(pattern) || pattern.length > text.length || pattern.length == 0) {
+      return new ArrayList<>();
+    }
+    return new BoyerMooreTokenPattern(pattern).find(text);
+  }
+
+  /**
+   * Performs Boyer-Moore search on a sequence of long symbol ids
+   *
+   * @param text the symbols being searched in
+   * @param pattern the symbols being searched for
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> findTokenOccurrences(long[] text, long[] pattern) {
+    if (isNull(text) || isNull(pattern) || pattern.length > text.length || pattern.length == 0) {
+      return new ArrayList<>();
     }
+    return new BoyerMooreTokenPattern(pattern).find(text);
+  }
+
+  /**
+   * Performs case-insensitive Boyer-Moore search on a given string with a given pattern, folding
+   * characters as they are compared instead of lower-casing a copy of the text
+   *
+   * @param text the string being searched in
+   * @param pattern the string being searched for
+   * @return List of indexes where the pattern occurs, ignoring case
+   */
+  public List<Integer> findOccurrencesIgnoreCase(String text, String pattern) {
+    if (isNull(text)
+        || isNull(pattern)
+        || pattern.length() > text.length()
+        || pattern.length() == 0) {
+      return new ArrayList<>();
+    }
+    return new BoyerMoorePattern(pattern, true).find(text);
+  }
+
+  /**
+   * Performs Boyer-Moore search on a given string with a given pattern using the common fork/join
+   * pool
+   *
+   * @param text the string being searched in
+   * @param pattern the string being searched for
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> findOccurrencesParallel(String text, String pattern) {
+    return findOccurrencesParallel(text, pattern, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Performs Boyer-Moore search on a given string with a given pattern by splitting the text into
+   * segments which overlap by pattern.length() - 1 characters and searching them on pool. Small
+   * texts are searched sequentially. Any gain over findOccurrences depends on the free cores and on
+   * memory bandwidth, as a search with long skips is mostly bound by reading the text, so measure
+   * it on the target machine before preferring this method.
+   *
+   * @param text the string being searched in
+   * @param pattern the string being searched for
+   * @param pool the pool running the segment searches
+   * @return List of indexes where the pattern occurs, in increasing order
+   */
+  public List<Integer> findOccurrencesParallel(String text, String pattern, ForkJoinPool pool) {
+    if (isNull(text)
+        || isNull(pattern)
+        || pattern.length() > text.length()
+        || pattern.length() == 0) {
+      return new ArrayList<>();
+    }
+    BoyerMoorePattern compiled = new BoyerMoorePattern(pattern, generateSkipTable(pattern));
+    if (text.length() < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+      return compiled.find(text);
+    }
+    int starts = text.length() - pattern.length() + 1;
+    // A few segments per worker lets idle workers steal from busy ones
+    int segmentSize = max(MIN_SEGMENT_SIZE, starts / (pool.getParallelism() * 4) + 1);
+    int[] offsets = pool.invoke(new SegmentSearch(compiled, text, 0, starts, segmentSize));
+    List<Integer> occurrences = new ArrayList<>(offsets.length);
+    for (int offset : offsets) occurrences.add(offset);
     return occurrences;
   }
 
-  private int[] generateSkipTable(String pattern) {
-    int[] skipTable = new int[MAX_ALPHABET_SIZE];
-    for (int i = 0; i < pattern.length(); i++) {
-      skipTable[(int) pattern.charAt(i)] = i;
+  // Finds the occurrences starting in [from, to). Since every segment owns a disjoint range of
+  // start positions, concatenating the results of the halves keeps them ordered and unique.
+  private static class SegmentSearch extends RecursiveTask<int[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final BoyerMoorePattern pattern;
+    private final String text;
+    private final int from, to, segmentSize;
+
+    SegmentSearch(BoyerMoorePattern pattern, String text, int from, int to, int segmentSize) {
+      this.pattern = pattern;
+      this.text = text;
+      this.from = from;
+      this.to = to;
+      this.segmentSize = segmentSize;
+    }
+
+    @Override
+    protected int[] compute() {
+      if (to - from <= segmentSize) {
+        OffsetBuffer offsets = new OffsetBuffer();
+        int end = min(text.length(), to + pattern.pattern().length() - 1);
+        pattern.forEach(text, from, end, offsets);
+        return offsets.toArray();
+      }
+      int mid = (from + to) >>> 1;
+      SegmentSearch left = new SegmentSearch(pattern, text, from, mid, segmentSize);
+      left.fork();
+      int[] right = new SegmentSearch(pattern, text, mid, to, segmentSize).compute();
+      int[] result = left.join();
+      if (right.length == 0) return result;
+      int[] merged = Arrays.copyOf(result, result.length + right.length);
+      System.arraycopy(right, 0, merged, result.length, right.length);
+      return merged;
+    }
+  }
+
+  // A growable int array collecting offsets without boxing them
+  private static class OffsetBuffer implements IntConsumer {
+
+    private int[] values = new int[16];
+    private int size;
+
+    @Override
+    public void accept(int value) {
+      if (size == values.length) values = Arrays.copyOf(values, size * 2);
+      values[size++] = value;
     }
-    return skipTable;
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+
+  // Covers every char value, not only the first 256
+  private BadCharacterTable generateSkipTable(String pattern) {
+    return new BadCharacterTable(pattern);
   }
 
   public static void main(String[] args) {
@@ -0,0 +1,168 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * A Boyer-Moore pattern over token sequences, for text already split into int or long symbol ids.
+ * Symbols are compared as longs, so an int pattern matches int and long text alike, and the
+ * bad-symbol rule uses a hashed table since token ids rarely fit a flat array. Instances are
+ * immutable and can be shared between threads.
+ */
+package functions.strings;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+public final class BoyerMooreTokenPattern {
+
+  private final long[] pattern;
+  private final BadSymbolTable skipTable;
+
+  /**
+   * Compiles a token pattern for repeated searches
+   *
+   * @param pattern the symbols being searched for, must not be null or empty
+   */
+  public BoyerMooreTokenPattern(int[] pattern) {
+    this(widen(pattern));
+  }
+
+  /**
+   * Compiles a token pattern for repeated searches
+   *
+   * @param pattern the symbols being searched for, must not be null or empty
+   */
+  public BoyerMooreTokenPattern(long[] pattern) {
+    if (pattern == null || pattern.length == 0) {
+      throw new IllegalArgumentException("pattern cannot be null or empty");
+    }
+    this.pattern = pattern.clone();
+    this.skipTable = new BadSymbolTable(this.pattern);
+  }
+
+  public int length() {
+    return pattern.length;
+  }
+
+  /**
+   * Finds every occurrence of this pattern in text
+   *
+   * @param text the symbols being searched in
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> find(int[] text) {
+    List<Integer> occurrences = new ArrayList<>();
+    if (text != null) forEach(text, 0, text.length, occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Finds every occurrence of this pattern in text
+   *
+   * @param text the symbols being searched in
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> find(long[] text) {
+    List<Integer> occurrences = new ArrayList<>();
+    if (text != null) forEach(text, 0, text.length, occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Passes the index of every occurrence of this pattern in text[from, to) to consumer
+   *
+   * @param text the symbols being searched in
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param consumer receives the index in text of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(int[] text, int from, int to, IntConsumer consumer) {
+    if (text == null || from < 0 || to > text.length || pattern.length > to - from) {
+      return 0;
+    }
+    int count = 0;
+    int n = pattern.length;
+    for (int textIndex = from + n - 1, patternIndex = n - 1; textIndex < to; ) {
+      long symbol = text[textIndex];
+      if (patternIndex >= 0 && pattern[patternIndex] == symbol) {
+        if (patternIndex == 0) {
+          consumer.accept(textIndex);
+          count++;
+        } else {
+          textIndex--;
+        }
+        patternIndex--;
+      } else {
+        textIndex += n - min(max(patternIndex, 0), skipTable.lastIndexOf(symbol) + 1);
+        patternIndex = n - 1;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Passes the index of every occurrence of this pattern in text[from, to) to consumer
+   *
+   * @param text the symbols being searched in
+   * @param from the first index of text to search, inclusive
+   * @param to the last index of text to search, exclusive
+   * @param consumer receives the index in text of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(long[] text, int from, int to, IntConsumer consumer) {
+    if (text == null || from < 0 || to > text.length || pattern.length > to - from) {
+      return 0;
+    }
+    int count = 0;
+    int n = pattern.length;
+    for (int textIndex = from + n - 1, patternIndex = n - 1; textIndex < to; ) {
+      long symbol = text[textIndex];
+      if (patternIndex >= 0 && pattern[patternIndex] == symbol) {
+        if (patternIndex == 0) {
+          consumer.accept(textIndex);
+          count++;
+        } else {
+          textIndex--;
+        }
+        patternIndex--;
+      } else {
+        textIndex += n - min(max(patternIndex, 0), skipTable.lastIndexOf(symbol) + 1);
+        patternIndex = n - 1;
+      }
+    }
+    return count;
+  }
+
+  private static long[] widen(int[] pattern) {
+    if (pattern == null) return null;
+    long[] wide = new long[pattern.length];
+    for (int i = 0; i < pattern.length; i++) wide[i] = pattern[i];
+    return wide;
+  }
+}
@@ -0,0 +1,389 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Searches every regular file under a directory for a set of patterns, several files at a time.
+ * Patterns are encoded as UTF-8 and matched against the raw bytes through one Aho-Corasick
+ * automaton, reading each file in fixed-size chunks which overlap by the longest pattern minus
+ * one byte, so memory stays bounded by maxOpenFiles * bufferSize however large the files are.
+ *
+ * <p>Files are searched on virtual threads when the JDK provides them and on a fixed pool of
+ * parallelism threads otherwise. The directory walk blocks once maxOpenFiles files are in flight,
+ * which keeps open descriptors bounded on trees of any size. Matches are streamed out chunk by
+ * chunk: those of one file arrive in offset order, and only the matches of the current chunk are
+ * held while they are sorted. Batches of matches from different files may interleave, and a file
+ * which fails part way has had the matches of its earlier chunks delivered.
+ */
+package functions.strings;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class DirectorySearch {
+
+  /** Receives matches in offset order within each file, from one thread at a time */
+  public interface MatchHandler {
+    /**
+     * @param file the file containing the occurrence
+     * @param patternId index of the matched pattern in the array given to the constructor
+     * @param offset byte offset in the file where the occurrence starts
+     */
+    void onMatch(Path file, int patternId, long offset);
+  }
+
+  /** Totals and throughput of one search */
+  public static final class Result {
+    private final long files;
+    private final long failedFiles;
+    private final long bytes;
+    private final long matches;
+    private final long elapsedNanos;
+
+    Result(long files, long failedFiles, long bytes, long matches, long elapsedNanos) {
+      this.files = files;
+      this.failedFiles = failedFiles;
+      this.bytes = bytes;
+      this.matches = matches;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    public long files() {
+      return files;
+    }
+
+    // Files which could not be listed or read, they are skipped rather than failing the search
+    public long failedFiles() {
+      return failedFiles;
+    }
+
+    public long bytes() {
+      return bytes;
+    }
+
+    public long matches() {
+      return matches;
+    }
+
+    public long elapsedNanos() {
+      return elapsedNanos;
+    }
+
+    public double filesPerSecond() {
+      return files * 1e9 / Math.max(elapsedNanos, 1);
+    }
+
+    public double bytesPerSecond() {
+      return bytes * 1e9 / Math.max(elapsedNanos, 1);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%d files (%d failed), %d bytes, %d matches in %dms: %.0f files/s, %.1f MB/s",
+          files,
+          failedFiles,
+          bytes,
+          matches,
+          elapsedNanos / 1_000_000,
+          filesPerSecond(),
+          bytesPerSecond() / 1e6);
+    }
+  }
+
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  // Matches of a chunk are sorted as chunkOffset << ID_BITS | patternId
+  private static final int ID_BITS = 23;
+
+  private final AhoCorasickStringSearch automaton;
+  private final int[] patternLengths;
+  private final int overlap;
+  private final int parallelism;
+  private final int maxOpenFiles;
+  private final int bufferSize;
+
+  public DirectorySearch(String[] patterns) {
+    this(
+        patterns,
+        Runtime.getRuntime().availableProcessors(),
+        2 * Runtime.getRuntime().availableProcessors(),
+        DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param patterns the patterns to search for, pattern ids are their indexes in this array. Null
+   *     or empty patterns are accepted but never match.
+   * @param parallelism the number of platform threads searching files when virtual threads are not
+   *     available
+   * @param maxOpenFiles the maximum number of files being searched or waiting to be searched
+   * @param bufferSize the number of bytes read from a file at a time
+   */
+  public DirectorySearch(String[] patterns, int parallelism, int maxOpenFiles, int bufferSize) {
+    if (patterns == null) throw new IllegalArgumentException("patterns cannot be null");
+    if (patterns.length > 1 << ID_BITS) {
+      throw new IllegalArgumentException("at most 2^23 patterns are supported");
+    }
+    if (parallelism <= 0 || maxOpenFiles <= 0) {
+      throw new IllegalArgumentException("parallelism and maxOpenFiles must be positive");
+    }
+    // Each byte becomes the Latin-1 char of the same value, so the automaton's char offsets are
+    // byte offsets and no decoding is needed
+    String[] encoded = new String[patterns.length];
+    patternLengths = new int[patterns.length];
+    int longest = 1;
+    for (int id = 0; id < patterns.length; id++) {
+      if (patterns[id] == null) continue;
+      byte[] bytes = patterns[id].getBytes(StandardCharsets.UTF_8);
+      encoded[id] = new String(bytes, StandardCharsets.ISO_8859_1);
+      patternLengths[id] = bytes.length;
+      longest = Math.max(longest, bytes.length);
+    }
+    if (bufferSize < longest) {
+      throw new IllegalArgumentException("bufferSize must be at least the longest pattern");
+    }
+    this.automaton = new AhoCorasickStringSearch(encoded);
+    this.overlap = longest - 1;
+    this.parallelism = parallelism;
+    this.maxOpenFiles = maxOpenFiles;
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Searches every regular file under root, following no symbolic links
+   *
+   * @param root the directory, or single file, being searched in
+   * @param handler receives the matches of each file, called by one thread at a time
+   * @return the totals and throughput of the search
+   */
+  public Result search(Path root, MatchHandler handler) throws IOException {
+    long begin = System.nanoTime();
+    AtomicLong files = new AtomicLong();
+    AtomicLong failedFiles = new AtomicLong();
+    AtomicLong bytes = new AtomicLong();
+    AtomicLong matches = new AtomicLong();
+    AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    Semaphore inFlight = new Semaphore(maxOpenFiles);
+    ExecutorService executor = newExecutor(parallelism);
+    try {
+      Files.walkFileTree(
+          root,
+          new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+                throws InterruptedIOException {
+              if (!attributes.isRegularFile()) return FileVisitResult.CONTINUE;
+              if (failure.get() != null) return FileVisitResult.TERMINATE;
+              acquire(inFlight, 1);
+              executor.execute(
+                  () -> {
+                    try {
+                      matches.addAndGet(searchFile(file, bytes, handler));
+                      files.incrementAndGet();
+                    } catch (IOException e) {
+                      failedFiles.incrementAndGet();
+                    } catch (RuntimeException e) {
+                      failure.compareAndSet(null, e);
+                    } finally {
+                      inFlight.release();
+                    }
+                  });
+              return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+              failedFiles.incrementAndGet();
+              return FileVisitResult.CONTINUE;
+            }
+          });
+      // Every task releases its permit when done, so holding all of them means all are finished
+      acquire(inFlight, maxOpenFiles);
+    } finally {
+      executor.shutdownNow();
+    }
+    if (failure.get() != null) throw failure.get();
+    return new Result(
+        files.get(), failedFiles.get(), bytes.get(), matches.get(), System.nanoTime() - begin);
+  }
+
+  // Searches file one chunk at a time and returns the number of matches delivered. A match
+  // starting in the last overlap bytes of a chunk is held back until the next chunk is searched,
+  // since every match found there starts at or after that point.
+  private long searchFile(Path file, AtomicLong bytesRead, MatchHandler handler)
+      throws IOException {
+    ChunkMatches found = new ChunkMatches();
+    long delivered = 0;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // Small files, the common case, do not pay for zeroing a full-size buffer
+      int capacity = (int) Math.max(1, Math.min(bufferSize, channel.size()));
+      byte[] chunk = new byte[overlap + capacity];
+      long chunkStart = 0;
+      int carried = 0;
+      while (true) {
+        int length = carried + readFully(channel, ByteBuffer.wrap(chunk, carried, capacity));
+        if (length == carried) break;
+        bytesRead.addAndGet(length - carried);
+        int carry = carried;
+        automaton.search(
+            chunk,
+            0,
+            length,
+            (patternId, offset) -> {
+              // Occurrences lying entirely in the carried bytes were found in the previous chunk
+              if (offset + patternLengths[patternId] > carry) found.add(offset, patternId);
+            });
+        delivered += found.deliverBefore(length - overlap, file, chunkStart, handler);
+        carried = Math.min(overlap, length);
+        System.arraycopy(chunk, length - carried, chunk, 0, carried);
+        found.shift(length - carried);
+        chunkStart += length - carried;
+      }
+      delivered += found.deliverBefore(Integer.MAX_VALUE, file, chunkStart, handler);
+    }
+    return delivered;
+  }
+
+  // Fills buffer until it is full or the channel is exhausted, returning the bytes read
+  private static int readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    int total = 0;
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer);
+      if (read == -1) break;
+      total += read;
+    }
+    return total;
+  }
+
+  private static void acquire(Semaphore semaphore, int permits) throws InterruptedIOException {
+    try {
+      semaphore.acquire(permits);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for files being searched");
+    }
+  }
+
+  // Virtual threads make blocking reads cheap on JDK 21+, this class still targets Java 8
+  private static ExecutorService newExecutor(int parallelism) {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newFixedThreadPool(parallelism);
+    }
+  }
+
+  // The matches of the current chunk, packed into longs as chunkOffset << ID_BITS | patternId so
+  // that sorting them orders by offset
+  private static final class ChunkMatches {
+    private long[] values = new long[16];
+    private int size;
+
+    void add(int chunkOffset, int patternId) {
+      if (size == values.length) values = Arrays.copyOf(values, 2 * size);
+      values[size++] = (long) chunkOffset << ID_BITS | patternId;
+    }
+
+    // Delivers, in offset order, the matches starting before limit and keeps the others
+    int deliverBefore(int limit, Path file, long chunkStart, MatchHandler handler) {
+      Arrays.sort(values, 0, size);
+      int count = 0;
+      while (count < size && values[count] >>> ID_BITS < limit) count++;
+      if (count == 0) return 0;
+      synchronized (handler) {
+        for (int i = 0; i < count; i++) {
+          long match = values[i];
+          int patternId = (int) (match & ((1 << ID_BITS) - 1));
+          handler.onMatch(file, patternId, chunkStart + (match >>> ID_BITS));
+        }
+      }
+      System.arraycopy(values, count, values, 0, size - count);
+      size -= count;
+      return count;
+    }
+
+    // Moves the kept matches to offsets relative to a chunk starting distance bytes later
+    void shift(int distance) {
+      for (int i = 0; i < size; i++) values[i] -= (long) distance << ID_BITS;
+    }
+  }
+
+  // Compares a parallel search of a generated tree against searching one file at a time
+  public static void main(String[] args) throws IOException {
+    Path root = Files.createTempDirectory("directory-search");
+    try {
+      Random random = new Random(0);
+      byte[] content = new byte[1 << 16];
+      for (int file = 0; file < 2000; file++) {
+        for (int i = 0; i < content.length; i++) content[i] = (byte) ('a' + random.nextInt(26));
+        Path directory = root.resolve("d" + file % 20);
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(file + ".txt"), content);
+      }
+      String[] patterns = {"needle", "haystack", "abc", "zzz", "grüße"};
+      DirectorySearch parallel = new DirectorySearch(patterns);
+      DirectorySearch sequential = new DirectorySearch(patterns, 1, 1, DEFAULT_BUFFER_SIZE);
+      for (int run = 0; run < 3; run++) {
+        System.out.println("parallel:   " + parallel.search(root, (file, id, offset) -> {}));
+        System.out.println("sequential: " + sequential.search(root, (file, id, offset) -> {}));
+      }
+    } finally {
+      Files.walkFileTree(
+          root,
+          new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+                throws IOException {
+              Files.delete(file);
+              return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException e)
+                throws IOException {
+              Files.delete(directory);
+              return FileVisitResult.CONTINUE;
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,309 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Searches gzip-compressed input with decompression and matching running on separate threads. A
+ * decompressor thread inflates into a fixed ring of reusable buffers while the calling thread runs
+ * Boyer-Moore over each filled buffer, so on two cores the search hides behind the inflater and
+ * throughput approaches that of decompression alone. Memory is bounded by ringSize buffers however
+ * large the archive is.
+ *
+ * <p>Every buffer keeps pattern.length() - 1 free bytes in front of its data, into which the
+ * matcher copies the tail of the previous buffer before searching it, so occurrences crossing a
+ * buffer boundary are found and each one is reported once.
+ */
+package functions.strings;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class GzipPipelineSearch {
+
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  public static final int DEFAULT_RING_SIZE = 4;
+
+  private final BoyerMooreBytePattern pattern;
+  private final int bufferSize;
+  private final int ringSize;
+
+  public GzipPipelineSearch(BoyerMooreBytePattern pattern) {
+    this(pattern, DEFAULT_BUFFER_SIZE, DEFAULT_RING_SIZE);
+  }
+
+  /**
+   * @param pattern the compiled pattern being searched for
+   * @param bufferSize the number of decompressed bytes held by each buffer of the ring
+   * @param ringSize the number of buffers shared by the decompressor and the matcher, at least 2
+   *     so that both can work at once
+   */
+  public GzipPipelineSearch(BoyerMooreBytePattern pattern, int bufferSize, int ringSize) {
+    if (pattern == null) throw new IllegalArgumentException("pattern cannot be null");
+    if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize must be positive");
+    if (ringSize < 2) throw new IllegalArgumentException("ringSize must be at least 2");
+    this.pattern = pattern;
+    this.bufferSize = bufferSize;
+    this.ringSize = ringSize;
+  }
+
+  /**
+   * Searches the decompressed content of a gzip file
+   *
+   * @param file the gzip file being searched in
+   * @param consumer receives the offset in the decompressed content of each occurrence
+   * @return the number of occurrences
+   */
+  public long search(Path file, LongConsumer consumer) throws IOException {
+    try (InputStream compressed = Files.newInputStream(file)) {
+      return search(compressed, consumer);
+    }
+  }
+
+  /**
+   * Searches the decompressed content of a gzip stream, which may hold several concatenated
+   * members. The stream is read to the end but not closed. The consumer is called on the calling
+   * thread.
+   *
+   * @param compressed the gzip bytes being searched in
+   * @param consumer receives the offset in the decompressed content of each occurrence
+   * @return the number of occurrences
+   */
+  public long search(InputStream compressed, LongConsumer consumer) throws IOException {
+    int overlap = pattern.length() - 1;
+    // One spare slot, so the stop marker can always be offered
+    BlockingQueue<Chunk> free = new ArrayBlockingQueue<>(ringSize + 1);
+    BlockingQueue<Chunk> full = new ArrayBlockingQueue<>(ringSize);
+    for (int i = 0; i < ringSize; i++) free.add(new Chunk(overlap + bufferSize));
+    AtomicBoolean stopped = new AtomicBoolean();
+
+    Thread decompressor =
+        new Thread(
+            () -> decompress(compressed, overlap, free, full, stopped), "gzip-pipeline-inflater");
+    decompressor.setDaemon(true);
+    decompressor.start();
+    try {
+      byte[] carry = new byte[overlap];
+      int carried = 0;
+      // Decompressed offset of the first fresh byte of the current chunk
+      long position = 0;
+      long count = 0;
+      while (true) {
+        Chunk chunk = take(full);
+        if (chunk.error != null) throw rethrow(chunk.error);
+        if (chunk.length < 0) return count;
+        int from = overlap - carried;
+        int to = overlap + chunk.length;
+        System.arraycopy(carry, 0, chunk.data, from, carried);
+        long base = position - overlap;
+        count += pattern.forEach(chunk.data, from, to, index -> consumer.accept(base + index));
+        carried = Math.min(overlap, to - from);
+        System.arraycopy(chunk.data, to - carried, carry, 0, carried);
+        position += chunk.length;
+        free.add(chunk);
+      }
+    } finally {
+      // When the search ends early, for example on a consumer failure, the decompressor stops
+      // after its current read. It is not interrupted, since an interrupt closes channel-backed
+      // streams, and it is waited for, so the stream is no longer read once search returns.
+      stopped.set(true);
+      free.offer(STOP);
+      joinUninterruptibly(decompressor);
+    }
+  }
+
+  // Runs on the decompressor thread, filling chunks from free and handing them over through full.
+  // The last chunk handed over carries either an error or a negative length marking the end.
+  // Nothing is handed over once the matcher has stopped.
+  private void decompress(
+      InputStream compressed,
+      int overlap,
+      BlockingQueue<Chunk> free,
+      BlockingQueue<Chunk> full,
+      AtomicBoolean stopped) {
+    try {
+      Chunk chunk = free.take();
+      if (stopped.get()) return;
+      try (InputStream in = new GZIPInputStream(new UnclosedInputStream(compressed), bufferSize)) {
+        int read;
+        while ((read = readFully(in, chunk.data, overlap, bufferSize)) > 0) {
+          chunk.length = read;
+          full.put(chunk);
+          chunk = free.take();
+          if (stopped.get()) return;
+        }
+        chunk.length = -1;
+      } catch (Throwable e) {
+        // Anything thrown here, a RuntimeException or an Error included, must still reach the
+        // matcher, which would otherwise wait for a chunk forever
+        chunk.error = e;
+      }
+      full.put(chunk);
+    } catch (InterruptedException e) {
+      // Never interrupted by the matcher; treated like a stop
+    }
+  }
+
+  private static IOException rethrow(Throwable error) {
+    if (error instanceof IOException) return (IOException) error;
+    if (error instanceof RuntimeException) throw (RuntimeException) error;
+    if (error instanceof Error) throw (Error) error;
+    return new IOException(error);
+  }
+
+  private static void joinUninterruptibly(Thread thread) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        thread.join();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) Thread.currentThread().interrupt();
+  }
+
+  private static int readFully(InputStream in, byte[] buffer, int offset, int length)
+      throws IOException {
+    int total = 0;
+    while (total < length) {
+      int read = in.read(buffer, offset + total, length - total);
+      if (read == -1) break;
+      total += read;
+    }
+    return total;
+  }
+
+  private static Chunk take(BlockingQueue<Chunk> queue) throws InterruptedIOException {
+    try {
+      return queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for decompressed data");
+    }
+  }
+
+  // Offered to the free queue when the matcher stops, in case the decompressor waits for a buffer
+  private static final Chunk STOP = new Chunk(0);
+
+  // A buffer of the ring. Fresh data starts at pattern.length() - 1, leaving room for the carry.
+  private static final class Chunk {
+    final byte[] data;
+    int length;
+    Throwable error;
+
+    Chunk(int capacity) {
+      this.data = new byte[capacity];
+    }
+  }
+
+  // Lets the inflater be closed, releasing its native memory, without closing the caller's stream
+  private static final class UnclosedInputStream extends FilterInputStream {
+    UnclosedInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  // The loop this class replaces, alternating between inflating a buffer and searching it
+  private static long searchOnOneThread(BoyerMooreBytePattern pattern, byte[] compressed)
+      throws IOException {
+    int overlap = pattern.length() - 1;
+    byte[] buffer = new byte[overlap + DEFAULT_BUFFER_SIZE];
+    long count = 0;
+    int carried = 0;
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      int read;
+      while ((read = readFully(in, buffer, carried, DEFAULT_BUFFER_SIZE)) > 0) {
+        int length = carried + read;
+        count += pattern.forEach(buffer, 0, length, index -> {});
+        carried = Math.min(overlap, length);
+        System.arraycopy(buffer, length - carried, buffer, 0, carried);
+      }
+    }
+    return count;
+  }
+
+  // Compares inflating alone, inflating and searching on one thread, and the pipeline
+  public static void main(String[] args) throws IOException {
+    Random random = new Random(0);
+    String[] levels = {"INFO", "WARN", "DEBUG", "ERROR"};
+    ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(archive)) {
+      StringBuilder line = new StringBuilder();
+      for (int i = 0; i < 1_000_000; i++) {
+        line.setLength(0);
+        line.append(i).append(' ').append(levels[random.nextInt(levels.length)]);
+        line.append(" request ").append(random.nextInt(1 << 20)).append(" took ");
+        line.append(random.nextInt(1000)).append("ms\n");
+        out.write(line.toString().getBytes(StandardCharsets.US_ASCII));
+      }
+    }
+    byte[] compressed = archive.toByteArray();
+    BoyerMooreBytePattern pattern =
+        new BoyerMooreBytePattern("ERROR request 4242".getBytes(StandardCharsets.US_ASCII));
+    GzipPipelineSearch pipeline = new GzipPipelineSearch(pattern);
+
+    for (int run = 0; run < 5; run++) {
+      byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+      long begin = System.nanoTime();
+      long inflated = 0;
+      try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+        int read;
+        while ((read = in.read(buffer)) != -1) inflated += read;
+      }
+      long inflateNanos = System.nanoTime() - begin;
+
+      begin = System.nanoTime();
+      long sequentialMatches = searchOnOneThread(pattern, compressed);
+      long sequentialNanos = System.nanoTime() - begin;
+
+      begin = System.nanoTime();
+      long pipelineMatches = pipeline.search(new ByteArrayInputStream(compressed), offset -> {});
+      long pipelineNanos = System.nanoTime() - begin;
+
+      System.out.printf(
+          "%d MB: inflate only=%dms single thread=%dms (%d matches) pipeline=%dms (%d matches)%n",
+          inflated >> 20, inflateNanos / 1_000_000, sequentialNanos / 1_000_000,
+          sequentialMatches, pipelineNanos / 1_000_000, pipelineMatches);
+    }
+  }
+}
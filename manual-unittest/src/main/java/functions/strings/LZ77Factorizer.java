@@ -0,0 +1,245 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Greedy LZ77 factorisation over a bounded window, for spotting repeated content in large inputs.
+ * Each factor is either a literal character or a copy of length characters starting distance
+ * characters back, with every distance below windowSize. No copy from at most windowSize / 2
+ * characters back is longer, except that factors stop at block boundaries. Sources further back
+ * are only seen from positions late in a block, so a longer copy from between windowSize / 2 and
+ * windowSize characters back can be missed.
+ *
+ * <p>Input is processed in blocks which fill a buffer of windowSize characters: the first block
+ * fills it alone, and every later one follows windowSize / 2 characters of history. So every
+ * distance is below windowSize and memory stays O(windowSize) however long the input is. For each
+ * block the suffix array of history + block is built with SuffixArrayIndex, and the nearest
+ * lexicographic neighbours of every suffix that start earlier in the buffer (previous and next
+ * smaller values, found with one stack pass over the suffix array) are the only candidates for its
+ * longest previous factor. Extending the two candidates of each factor start costs O(factor
+ * length), so given the suffix array the factorisation is linear.
+ */
+package functions.strings;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Random;
+
+public class LZ77Factorizer {
+
+  public static final int DEFAULT_WINDOW_SIZE = 1 << 16;
+
+  public interface FactorHandler {
+    /**
+     * @param position index in the input of the first character covered by the factor
+     * @param distance how far back the copied characters start, or 0 for a literal
+     * @param length the number of characters covered, 1 for a literal
+     */
+    void onFactor(long position, int distance, int length);
+  }
+
+  private final int windowSize;
+
+  public LZ77Factorizer() {
+    this(DEFAULT_WINDOW_SIZE);
+  }
+
+  /** @param windowSize exclusive upper bound on factor distances, at least 2 */
+  public LZ77Factorizer(int windowSize) {
+    if (windowSize < 2) throw new IllegalArgumentException("windowSize must be at least 2");
+    this.windowSize = windowSize;
+  }
+
+  public int windowSize() {
+    return windowSize;
+  }
+
+  /**
+   * Factorises text, passing every factor to handler in input order
+   *
+   * @return the number of factors
+   */
+  public long factorize(CharSequence text, FactorHandler handler) {
+    if (text == null) return 0;
+    try {
+      return factorize(new CharSequenceReader(text), handler);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Factorises everything read from reader, passing every factor to handler in input order. The
+   * reader is not closed.
+   *
+   * @return the number of factors
+   */
+  public long factorize(Reader reader, FactorHandler handler) throws IOException {
+    int maxHistory = windowSize / 2;
+    char[] buffer = new char[windowSize];
+    int[] previous = new int[windowSize];
+    int[] next = new int[windowSize];
+    int[] stack = new int[windowSize];
+    char[] ranked = new char[windowSize];
+    char[] distinct = new char[windowSize];
+    long factors = 0;
+    long position = 0;
+    int history = 0;
+    while (true) {
+      int length = history;
+      for (int read; length < buffer.length; length += read) {
+        read = reader.read(buffer, length, buffer.length - length);
+        if (read < 0) break;
+      }
+      if (length == history) return factors;
+
+      char[] sorted = rankChars(buffer, length, ranked, distinct);
+      findSmallerNeighbours(sorted, length, previous, next, stack);
+      for (int i = history; i < length; ) {
+        int previousLength = commonPrefix(buffer, previous[i], i, length);
+        int nextLength = commonPrefix(buffer, next[i], i, length);
+        int source = previousLength >= nextLength ? previous[i] : next[i];
+        int factorLength = Math.max(previousLength, nextLength);
+        if (factorLength == 0) {
+          handler.onFactor(position + i - history, 0, 1);
+          i++;
+        } else {
+          handler.onFactor(position + i - history, i - source, factorLength);
+          i += factorLength;
+        }
+        factors++;
+      }
+
+      position += length - history;
+      int keep = Math.min(maxHistory, length);
+      System.arraycopy(buffer, length - keep, buffer, 0, keep);
+      history = keep;
+    }
+  }
+
+  // SA-IS pays for a bucket per char value up to the largest char of its input, which would
+  // dominate small blocks of high chars. Such blocks are rewritten as the ranks of their chars
+  // among the block's distinct chars, which keeps the suffix order, in O(length log length).
+  // Returns the chars to sort, buffer itself when its largest char is already below length.
+  private static char[] rankChars(char[] buffer, int length, char[] ranked, char[] distinct) {
+    char max = 0;
+    for (int i = 0; i < length; i++) max = (char) Math.max(max, buffer[i]);
+    if (max < length) return buffer;
+    System.arraycopy(buffer, 0, distinct, 0, length);
+    Arrays.sort(distinct, 0, length);
+    int size = 0;
+    for (int i = 0; i < length; i++) {
+      if (size == 0 || distinct[i] != distinct[size - 1]) distinct[size++] = distinct[i];
+    }
+    for (int i = 0; i < length; i++) {
+      ranked[i] = (char) Arrays.binarySearch(distinct, 0, size, buffer[i]);
+    }
+    return ranked;
+  }
+
+  // For every buffer index i, previous[i] and next[i] are the closest suffix array entries before
+  // and after i's own entry that start before i, or -1. The stack holds increasing start indexes.
+  private static void findSmallerNeighbours(
+      char[] buffer, int length, int[] previous, int[] next, int[] stack) {
+    int[] sa = SuffixArrayIndex.buildSuffixArray(buffer, length);
+    int top = 0;
+    for (int suffix : sa) {
+      while (top > 0 && stack[top - 1] > suffix) next[stack[--top]] = suffix;
+      previous[suffix] = top > 0 ? stack[top - 1] : -1;
+      stack[top++] = suffix;
+    }
+    while (top > 0) next[stack[--top]] = -1;
+  }
+
+  // Reads blocks straight out of a CharSequence, where a StringReader would need a String copy of
+  // the whole input
+  private static class CharSequenceReader extends Reader {
+
+    private final CharSequence text;
+    private int position;
+
+    CharSequenceReader(CharSequence text) {
+      this.text = text;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+      if (length == 0) return 0;
+      if (position == text.length()) return -1;
+      int end = Math.min(text.length(), position + length);
+      if (text instanceof String) {
+        ((String) text).getChars(position, end, buffer, offset);
+      } else {
+        for (int i = position; i < end; i++) buffer[offset + i - position] = text.charAt(i);
+      }
+      int read = end - position;
+      position = end;
+      return read;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private static int commonPrefix(char[] buffer, int source, int i, int length) {
+    if (source < 0) return 0;
+    int k = 0;
+    while (i + k < length && buffer[source + k] == buffer[i + k]) k++;
+    return k;
+  }
+
+  // Measures factorisation throughput on repetitive and on random text
+  public static void main(String[] args) throws IOException {
+    Random random = new Random(0);
+    int n = 1 << 22;
+    char[] repetitive = new char[n];
+    char[] record = new char[200];
+    for (int i = 0; i < record.length; i++) record[i] = (char) ('a' + random.nextInt(26));
+    for (int i = 0; i < n; i++) {
+      repetitive[i] = record[i % record.length];
+      if (random.nextInt(1000) == 0) repetitive[i] = (char) ('a' + random.nextInt(26));
+    }
+    char[] randomText = new char[n];
+    for (int i = 0; i < n; i++) randomText[i] = (char) ('a' + random.nextInt(26));
+
+    // Small windows make many small blocks, whose cost must not depend on the char range
+    for (int windowSize : new int[] {DEFAULT_WINDOW_SIZE, 1024, 64}) {
+      LZ77Factorizer factorizer = new LZ77Factorizer(windowSize);
+      for (int round = 0; round < 3; round++) {
+        for (char[] text : new char[][] {repetitive, randomText}) {
+          long start = System.nanoTime();
+          long factors = factorizer.factorize(new StringReader(new String(text)), (p, d, l) -> {});
+          long nanos = System.nanoTime() - start;
+          System.out.printf(
+              "window %d, %s: %d factors, mean length %.1f, %dms, %.1f MB/s%n",
+              windowSize, text == repetitive ? "repetitive" : "random", factors,
+              (double) n / factors, nanos / 1_000_000, n * 1e3 / nanos);
+        }
+      }
+    }
+  }
+}
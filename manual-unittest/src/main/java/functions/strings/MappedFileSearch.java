@@ -0,0 +1,135 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Searches very large files for a byte pattern by mapping them with FileChannel.map one window at a
+ * time. A single mapping is limited to 2 GB, so consecutive windows overlap by pattern.length() - 1
+ * bytes and every occurrence is reported exactly once with its long file offset. Nothing is decoded
+ * to a String, so a warm page cache is scanned close to memory bandwidth.
+ */
+package functions.strings;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.function.LongConsumer;
+
+public class MappedFileSearch {
+
+  public static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+  private final BoyerMooreBytePattern pattern;
+  private final long windowSize;
+
+  public MappedFileSearch(BoyerMooreBytePattern pattern) {
+    this(pattern, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * @param pattern the compiled pattern being searched for
+   * @param windowSize the size of each mapping, between pattern.length() and Integer.MAX_VALUE
+   */
+  public MappedFileSearch(BoyerMooreBytePattern pattern, long windowSize) {
+    if (pattern == null) throw new IllegalArgumentException("pattern cannot be null");
+    if (windowSize < pattern.length() || windowSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("windowSize must be in [pattern length, 2^31 - 1]");
+    }
+    this.pattern = pattern;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Searches every byte of file
+   *
+   * @param file the file being searched in
+   * @param consumer receives the file offset of each occurrence
+   * @return the number of occurrences
+   */
+  public long search(Path file, LongConsumer consumer) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return search(channel, consumer);
+    }
+  }
+
+  /**
+   * Searches every byte of channel, which is left open
+   *
+   * @param channel the file being searched in
+   * @param consumer receives the file offset of each occurrence
+   * @return the number of occurrences
+   */
+  public long search(FileChannel channel, LongConsumer consumer) throws IOException {
+    long size = channel.size();
+    long step = windowSize - (pattern.length() - 1);
+    long count = 0;
+    for (long position = 0; position + pattern.length() <= size; position += step) {
+      int length = (int) Math.min(windowSize, size - position);
+      MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+      long base = position;
+      count += pattern.forEach(window, 0, length, index -> consumer.accept(base + index));
+      if (position + length == size) break;
+    }
+    return count;
+  }
+
+  // Compares mapped search against reading the whole file into a String and calling
+  // BoyerMooreStringSearch.findOccurrences
+  public static void main(String[] args) throws IOException {
+    Path file = Files.createTempFile("mapped-file-search", ".txt");
+    try {
+      Random random = new Random(0);
+      byte[] content = new byte[1 << 27];
+      for (int i = 0; i < content.length; i++) content[i] = (byte) ('a' + random.nextInt(26));
+      Files.write(file, content);
+      String pattern = "needle";
+      MappedFileSearch mapped =
+          new MappedFileSearch(
+              new BoyerMooreBytePattern(pattern.getBytes(StandardCharsets.US_ASCII)));
+
+      for (int run = 0; run < 5; run++) {
+        long start = System.nanoTime();
+        long mappedMatches = mapped.search(file, offset -> {});
+        long mappedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        String text = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII);
+        int stringMatches = new BoyerMooreStringSearch().findOccurrences(text, pattern).size();
+        long stringNanos = System.nanoTime() - start;
+
+        System.out.printf(
+            "mapped=%dms (%d matches, %.0f MB/s) read into String=%dms (%d matches)%n",
+            mappedNanos / 1_000_000, mappedMatches, content.length * 1e3 / mappedNanos,
+            stringNanos / 1_000_000, stringMatches);
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
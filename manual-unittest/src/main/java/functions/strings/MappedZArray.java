@@ -0,0 +1,253 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Z-array of a file of one-byte characters, such as a genome, with both the text and the Z-values
+ * memory-mapped so neither is limited to 2^31 entries nor held on the Java heap. A single mapping
+ * is limited to 2 GB, so the text and the output file are each mapped as an array of segments of
+ * 2^segmentShift bytes, and a long index selects the segment with its high bits.
+ *
+ * <p>The output file holds one little-endian value per text position. Width.LONG stores values in
+ * 8 bytes. Width.INT halves the file but only takes texts of at most Integer.MAX_VALUE bytes, where
+ * every value fits. Storing longer matches saturated would keep the values correct, but the linear
+ * bound relies on reading back exact values: a saturated one forces a rescan of the whole repeat
+ * at every position inside it.
+ */
+package functions.strings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+public class MappedZArray implements Closeable {
+
+  public enum Width {
+    INT(4),
+    LONG(8);
+
+    final int bytes;
+
+    Width(int bytes) {
+      this.bytes = bytes;
+    }
+  }
+
+  static final int DEFAULT_SEGMENT_SHIFT = 30;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer[] segments;
+  private final int shift;
+  private final long mask;
+  private final Width width;
+  private final long length;
+
+  private MappedZArray(
+      FileChannel channel, MappedByteBuffer[] segments, int shift, Width width, long length) {
+    this.channel = channel;
+    this.segments = segments;
+    this.shift = shift;
+    this.mask = (1L << shift) - 1;
+    this.width = width;
+    this.length = length;
+  }
+
+  /**
+   * Calculates the Z-array of the bytes of text into output, which is created or overwritten
+   *
+   * @param text the file on which Z-array is computed
+   * @param output the file receiving one value of the given width per byte of text
+   * @param width the size of each stored value, Width.INT only for texts of at most
+   *     Integer.MAX_VALUE bytes
+   * @return the Z-array, readable until closed
+   */
+  public static MappedZArray calculateZ(Path text, Path output, Width width) throws IOException {
+    return calculateZ(text, output, width, DEFAULT_SEGMENT_SHIFT);
+  }
+
+  static MappedZArray calculateZ(Path text, Path output, Width width, int segmentShift)
+      throws IOException {
+    if (text == null || output == null || width == null) {
+      throw new IllegalArgumentException("text, output and width cannot be null");
+    }
+    if (segmentShift < 3 || segmentShift > 30) {
+      throw new IllegalArgumentException("segmentShift must be in [3, 30]");
+    }
+    try (FileChannel textChannel = FileChannel.open(text, StandardOpenOption.READ)) {
+      long n = textChannel.size();
+      if (width == Width.INT && n > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Width.INT only takes texts of at most 2^31 - 1 bytes");
+      }
+      MappedByteBuffer[] textSegments =
+          map(textChannel, FileChannel.MapMode.READ_ONLY, n, segmentShift);
+      FileChannel channel =
+          FileChannel.open(
+              output,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+      try {
+        MappedByteBuffer[] zSegments =
+            map(channel, FileChannel.MapMode.READ_WRITE, n * width.bytes, segmentShift);
+        MappedZArray Z = new MappedZArray(channel, zSegments, segmentShift, width, n);
+        Z.fill(textSegments);
+        return Z;
+      } catch (IOException | RuntimeException e) {
+        channel.close();
+        throw e;
+      }
+    }
+  }
+
+  public long length() {
+    return length;
+  }
+
+  public Width width() {
+    return width;
+  }
+
+  /**
+   * @param i a text position in [0, length())
+   * @return the length of the longest common prefix of the text and its suffix starting at i
+   */
+  public long get(long i) {
+    if (i < 0 || i >= length) throw new IndexOutOfBoundsException("index is outside of the text");
+    return read(i);
+  }
+
+  /** Writes any changes to the output file back to the storage device */
+  public void force() {
+    for (MappedByteBuffer segment : segments) segment.force();
+  }
+
+  /** Closes the output file. The mapping itself is released when the buffers are collected. */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  // The same loop as ZAlgorithm.calculateZ with long indexes over segmented buffers
+  private void fill(MappedByteBuffer[] text) {
+    long n = length;
+    long L = 0, R = 0;
+    for (long i = 1; i < n; i++) {
+      long z = 0;
+      if (i < R) z = Math.min(R - i, read(i - L));
+      while (i + z < n && byteAt(text, z) == byteAt(text, i + z)) z++;
+      write(i, z);
+      if (i + z > R) {
+        L = i;
+        R = i + z;
+      }
+    }
+    if (n > 0) write(0, n);
+  }
+
+  private byte byteAt(MappedByteBuffer[] text, long i) {
+    return text[(int) (i >>> shift)].get((int) (i & mask));
+  }
+
+  private long read(long i) {
+    long offset = i * width.bytes;
+    MappedByteBuffer segment = segments[(int) (offset >>> shift)];
+    int index = (int) (offset & mask);
+    return width == Width.INT ? segment.getInt(index) : segment.getLong(index);
+  }
+
+  private void write(long i, long value) {
+    long offset = i * width.bytes;
+    MappedByteBuffer segment = segments[(int) (offset >>> shift)];
+    int index = (int) (offset & mask);
+    if (width == Width.INT) segment.putInt(index, (int) value);
+    else segment.putLong(index, value);
+  }
+
+  private static MappedByteBuffer[] map(
+      FileChannel channel, FileChannel.MapMode mode, long size, int shift) throws IOException {
+    long segmentSize = 1L << shift;
+    MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + segmentSize - 1) >>> shift)];
+    for (int s = 0; s < segments.length; s++) {
+      long position = s * segmentSize;
+      segments[s] = channel.map(mode, position, Math.min(segmentSize, size - position));
+      segments[s].order(ByteOrder.LITTLE_ENDIAN);
+    }
+    return segments;
+  }
+
+  // Compares the mapped Z-array against ZAlgorithm.calculateZ over a byte[] read onto the heap,
+  // which needs 5 bytes of heap per character. Pass a size of 2^31 or more to run the mapped side
+  // only, with Width.LONG.
+  public static void main(String[] args) throws IOException {
+    long size = args.length > 0 ? Long.parseLong(args[0]) : 1L << 26;
+    Path text = Files.createTempFile("mapped-z-array", ".txt");
+    Path output = Files.createTempFile("mapped-z-array", ".z");
+    try {
+      // Random DNA with long repeats copied from earlier in the sequence
+      Random random = new Random(0);
+      byte[] chunk = new byte[1 << 20];
+      byte[] bases = {'A', 'C', 'G', 'T'};
+      try (FileChannel channel = FileChannel.open(text, StandardOpenOption.WRITE)) {
+        for (long written = 0; written < size; written += chunk.length) {
+          for (int i = 0; i < chunk.length; i++) {
+            boolean repeat = i >= 1000 && random.nextInt(100) == 0;
+            chunk[i] = repeat ? chunk[i - 1000] : bases[random.nextInt(4)];
+          }
+          channel.write(ByteBuffer.wrap(chunk, 0, (int) Math.min(chunk.length, size - written)));
+        }
+      }
+
+      for (int run = 0; run < 3; run++) {
+        long start = System.nanoTime();
+        Width width = size <= Integer.MAX_VALUE ? Width.INT : Width.LONG;
+        try (MappedZArray Z = calculateZ(text, output, width)) {
+          long mappedNanos = System.nanoTime() - start;
+          String heap = "skipped, text exceeds 2^31 - 1 bytes";
+          if (width == Width.INT) {
+            start = System.nanoTime();
+            byte[] bytes = Files.readAllBytes(text);
+            int[] heapZ = new int[bytes.length];
+            new ZAlgorithm().calculateZ(bytes, 0, bytes.length, heapZ);
+            long heapNanos = System.nanoTime() - start;
+            heap = String.format("%dms (Z[1]=%d)", heapNanos / 1_000_000, heapZ[1]);
+          }
+          System.out.printf(
+              "%d bytes: mapped=%dms (%.0f MB/s, Z[1]=%d) heap=%s%n",
+              size, mappedNanos / 1_000_000, size * 1e3 / mappedNanos, Z.get(1), heap);
+        }
+      }
+    } finally {
+      Files.delete(text);
+      Files.delete(output);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Bit vector with constant time rank queries. Bits are stored in 64-bit words and the number of set
+ * bits before every block of 8 words is kept in a directory, which costs 1/16 of the space of the
+ * bits themselves. Both arrays are accessed through buffers, so a vector can live on the heap or in
+ * a memory-mapped file.
+ */
+package functions.strings;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+final class RankBitVector {
+
+  private static final int WORDS_PER_BLOCK = 8;
+
+  private final int length;
+  private final LongBuffer words;
+
+  // The number of set bits before every block of WORDS_PER_BLOCK words
+  private final IntBuffer blockRanks;
+
+  RankBitVector(long[] words, int length) {
+    this(length, LongBuffer.wrap(words), IntBuffer.wrap(blockRanks(words)));
+  }
+
+  private RankBitVector(int length, LongBuffer words, IntBuffer blockRanks) {
+    this.length = length;
+    this.words = words;
+    this.blockRanks = blockRanks;
+  }
+
+  int length() {
+    return length;
+  }
+
+  boolean get(int i) {
+    return (words.get(i >>> 6) & (1L << i)) != 0;
+  }
+
+  // The number of set bits in [0, i)
+  int rank1(int i) {
+    int word = i >>> 6;
+    int block = word / WORDS_PER_BLOCK;
+    int rank = blockRanks.get(block);
+    for (int w = block * WORDS_PER_BLOCK; w < word; w++) rank += Long.bitCount(words.get(w));
+    if ((i & 63) != 0) rank += Long.bitCount(words.get(word) << (64 - (i & 63)));
+    return rank;
+  }
+
+  // The number of clear bits in [0, i)
+  int rank0(int i) {
+    return i - rank1(i);
+  }
+
+  private static int[] blockRanks(long[] words) {
+    int[] ranks = new int[words.length / WORDS_PER_BLOCK + 1];
+    int rank = 0;
+    for (int w = 0; w < words.length; w++) {
+      if (w % WORDS_PER_BLOCK == 0) ranks[w / WORDS_PER_BLOCK] = rank;
+      rank += Long.bitCount(words[w]);
+    }
+    if (words.length % WORDS_PER_BLOCK == 0) ranks[words.length / WORDS_PER_BLOCK] = rank;
+    return ranks;
+  }
+
+  static int wordCount(int length) {
+    return (length + 63) >>> 6;
+  }
+
+  // The number of bytes written by writeTo, a multiple of 8
+  long byteSize() {
+    return 8 + 8L * words.capacity() + 8L * ((blockRanks.capacity() + 1) / 2);
+  }
+
+  void writeTo(ByteBuffer out) {
+    out.putInt(length).putInt(words.capacity());
+    for (int i = 0; i < words.capacity(); i++) out.putLong(words.get(i));
+    for (int i = 0; i < blockRanks.capacity(); i++) out.putInt(blockRanks.get(i));
+    if (blockRanks.capacity() % 2 != 0) out.putInt(0);
+  }
+
+  // Reads a vector written by writeTo as views over in, advancing its position past the vector
+  static RankBitVector readFrom(ByteBuffer in) {
+    int length = in.getInt();
+    int wordCount = in.getInt();
+    LongBuffer words = view(in, 8 * wordCount).asLongBuffer();
+    int blocks = wordCount / WORDS_PER_BLOCK + 1;
+    IntBuffer blockRanks = view(in, 4 * blocks).asIntBuffer();
+    if (blocks % 2 != 0) in.getInt();
+    return new RankBitVector(length, words, blockRanks);
+  }
+
+  // Returns the next size bytes of in as a separate buffer and skips them
+  static ByteBuffer view(ByteBuffer in, int size) {
+    ByteBuffer view = in.slice().order(in.order());
+    view.limit(size);
+    in.position(in.position() + size);
+    return view;
+  }
+}
@@ -0,0 +1,318 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+/**
+ * Matches patterns containing "don't care" positions with number-theoretic transforms. Every text
+ * and pattern character is mapped to a pseudo-random non-zero residue r(c), wildcards to 0, and for
+ * every alignment i the sum
+ *
+ * <pre>  sum over j of p[j] * (p[j] - t[i + j])^2  =  sum p^3 - 2 * sum p^2 t + sum p t^2</pre>
+ *
+ * is zero when the alignment matches. The two correlations are computed blockwise: each block of
+ * the text is transformed once, multiplied by the transforms of the reversed pattern prepared in
+ * the constructor and transformed back, so memory stays O(m) and the total cost is O(n log m)
+ * however many alignments match.
+ *
+ * <p>For a mismatching alignment the sum is a non-zero polynomial of degree 3 in the residues, so
+ * it vanishes modulo a prime q with probability at most 3 / q. The sum is evaluated modulo the two
+ * NTT primes 998244353 and 469762049 with independent residues, and an alignment is reported only
+ * when both vanish, so a false match has probability below 10^-16 per alignment and no alignment
+ * is re-checked character by character.
+ *
+ * <p>Patterns shorter than NAIVE_THRESHOLD characters are checked directly, which is faster than
+ * any transform at that size.
+ */
+package functions.strings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+public class WildcardMatcher {
+
+  public static final char DEFAULT_WILDCARD = '?';
+
+  // Both primes have 2^23 dividing q - 1, which bounds the block size and so the pattern length
+  public static final int MAX_PATTERN_LENGTH = 1 << 22;
+
+  // Below this pattern length direct checking beats the transforms, see main()
+  static final int NAIVE_THRESHOLD = 512;
+
+  private static final long[] MODULI = {998_244_353, 469_762_049};
+  private static final long GENERATOR = 3;
+
+  // The smallest transform used, so that short patterns still cover many alignments per block
+  private static final int MIN_BLOCK_SIZE = 1 << 10;
+
+  private final String pattern;
+  private final char wildcard;
+
+  // One residue mapping per prime
+  private final long[] seeds = new long[MODULI.length];
+
+  // Pattern indexes which are not wildcards, checked by the naive path
+  private final int[] fixedPositions;
+
+  // Transform size, and per prime the transforms of the reversed pattern residues p and p^2 and
+  // the constant sum of p^3
+  private final int blockSize;
+  private final long[][] patternTransforms;
+  private final long[][] squaredTransforms;
+  private final long[] cubeSums;
+
+  public WildcardMatcher(String pattern) {
+    this(pattern, DEFAULT_WILDCARD);
+  }
+
+  /**
+   * @param pattern the string being searched for, of length 1 to MAX_PATTERN_LENGTH
+   * @param wildcard the pattern character which matches any text character
+   */
+  public WildcardMatcher(String pattern, char wildcard) {
+    if (pattern == null || pattern.isEmpty()) {
+      throw new IllegalArgumentException("pattern cannot be null or empty");
+    }
+    if (pattern.length() > MAX_PATTERN_LENGTH) {
+      throw new IllegalArgumentException("pattern cannot be longer than 2^22");
+    }
+    this.pattern = pattern;
+    this.wildcard = wildcard;
+    for (int q = 0; q < seeds.length; q++) seeds[q] = ThreadLocalRandom.current().nextLong();
+    int m = pattern.length();
+    int fixed = 0;
+    for (int j = 0; j < m; j++) if (pattern.charAt(j) != wildcard) fixed++;
+    fixedPositions = new int[fixed];
+    for (int j = 0, k = 0; j < m; j++) if (pattern.charAt(j) != wildcard) fixedPositions[k++] = j;
+
+    blockSize = Math.max(MIN_BLOCK_SIZE, Integer.highestOneBit(2 * m - 1) << 1);
+    patternTransforms = new long[MODULI.length][blockSize];
+    squaredTransforms = new long[MODULI.length][blockSize];
+    cubeSums = new long[MODULI.length];
+    for (int q = 0; q < MODULI.length; q++) {
+      long mod = MODULI[q];
+      long cubes = 0;
+      for (int j = 0; j < m; j++) {
+        long p = patternResidue(pattern.charAt(j), q);
+        long squared = p * p % mod;
+        patternTransforms[q][m - 1 - j] = p;
+        squaredTransforms[q][m - 1 - j] = squared;
+        cubes = (cubes + squared * p) % mod;
+      }
+      cubeSums[q] = cubes;
+      transform(patternTransforms[q], false, mod);
+      transform(squaredTransforms[q], false, mod);
+    }
+  }
+
+  public String pattern() {
+    return pattern;
+  }
+
+  /**
+   * Finds every alignment where the pattern matches text, wildcards matching any character
+   *
+   * @param text the string being searched in
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> find(String text) {
+    List<Integer> occurrences = new ArrayList<>();
+    forEach(text, occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Passes the index of every alignment where the pattern matches text to consumer
+   *
+   * @param text the characters being searched in
+   * @param consumer receives the index of each occurrence
+   * @return the number of occurrences
+   */
+  public int forEach(CharSequence text, IntConsumer consumer) {
+    int m = pattern.length();
+    if (text == null || text.length() < m) return 0;
+    return m < NAIVE_THRESHOLD ? forEachNaive(text, consumer) : forEachTransform(text, consumer);
+  }
+
+  private int forEachTransform(CharSequence text, IntConsumer consumer) {
+    int m = pattern.length();
+    int count = 0;
+    int alignmentsPerBlock = blockSize - m + 1;
+    long[] first = new long[blockSize];
+    long[] second = new long[blockSize];
+    boolean[] candidates = new boolean[alignmentsPerBlock];
+    int lastAlignment = text.length() - m;
+    for (int start = 0; start <= lastAlignment; start += alignmentsPerBlock) {
+      int end = Math.min(text.length(), start + blockSize);
+      int alignments = Math.min(alignmentsPerBlock, lastAlignment - start + 1);
+      for (int q = 0; q < MODULI.length; q++) {
+        long mod = MODULI[q];
+        for (int i = 0; i < blockSize; i++) {
+          long t = start + i < end ? textResidue(text.charAt(start + i), q) : 0;
+          first[i] = t;
+          second[i] = t * t % mod;
+        }
+        transform(first, false, mod);
+        transform(second, false, mod);
+        // first becomes -2 * sum p^2 t + sum p t^2, the correlations sitting at index i + m - 1
+        long[] patternTransform = patternTransforms[q];
+        long[] squaredTransform = squaredTransforms[q];
+        for (int i = 0; i < blockSize; i++) {
+          long cross = squaredTransform[i] * first[i] % mod;
+          first[i] = (patternTransform[i] * second[i] % mod + 2 * (mod - cross)) % mod;
+        }
+        transform(first, true, mod);
+        for (int i = 0; i < alignments; i++) {
+          boolean zero = (first[i + m - 1] + cubeSums[q]) % mod == 0;
+          candidates[i] = q == 0 ? zero : candidates[i] && zero;
+        }
+      }
+      for (int i = 0; i < alignments; i++) {
+        if (candidates[i]) {
+          consumer.accept(start + i);
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  private int forEachNaive(CharSequence text, IntConsumer consumer) {
+    if (text.length() < pattern.length()) return 0;
+    int count = 0;
+    for (int i = 0; i + pattern.length() <= text.length(); i++) {
+      if (matchesAt(text, i)) {
+        consumer.accept(i);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private boolean matchesAt(CharSequence text, int offset) {
+    for (int j : fixedPositions) {
+      if (text.charAt(offset + j) != pattern.charAt(j)) return false;
+    }
+    return true;
+  }
+
+  private long patternResidue(char c, int q) {
+    return c == wildcard ? 0 : textResidue(c, q);
+  }
+
+  // A pseudo-random residue in [1, MODULI[q]) per character, fixed for the lifetime of this matcher
+  private long textResidue(char c, int q) {
+    long z = seeds[q] + c * 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    z ^= z >>> 31;
+    return Long.remainderUnsigned(z, MODULI[q] - 1) + 1;
+  }
+
+  // In-place iterative number-theoretic transform of a power-of-two sized array modulo mod
+  private static void transform(long[] a, boolean inverse, long mod) {
+    int n = a.length;
+    for (int i = 1, j = 0; i < n; i++) {
+      int bit = n >> 1;
+      for (; (j & bit) != 0; bit >>= 1) j ^= bit;
+      j ^= bit;
+      if (i < j) {
+        long swap = a[i];
+        a[i] = a[j];
+        a[j] = swap;
+      }
+    }
+    long[] roots = new long[n / 2];
+    for (int length = 2; length <= n; length <<= 1) {
+      int half = length / 2;
+      long root = power(GENERATOR, (mod - 1) / length, mod);
+      if (inverse) root = power(root, mod - 2, mod);
+      roots[0] = 1;
+      for (int k = 1; k < half; k++) roots[k] = roots[k - 1] * root % mod;
+      for (int i = 0; i < n; i += length) {
+        for (int k = 0; k < half; k++) {
+          long u = a[i + k];
+          long v = a[i + k + half] * roots[k] % mod;
+          a[i + k] = u + v < mod ? u + v : u + v - mod;
+          a[i + k + half] = u - v >= 0 ? u - v : u - v + mod;
+        }
+      }
+    }
+    if (inverse) {
+      long scale = power(n, mod - 2, mod);
+      for (int i = 0; i < n; i++) a[i] = a[i] * scale % mod;
+    }
+  }
+
+  private static long power(long base, long exponent, long mod) {
+    long result = 1;
+    base %= mod;
+    for (; exponent > 0; exponent >>= 1) {
+      if ((exponent & 1) == 1) result = result * base % mod;
+      base = base * base % mod;
+    }
+    return result;
+  }
+
+  // Compares transform matching against checking every alignment directly, on a text of long
+  // runs where partial matches make direct checking take close to m comparisons per alignment,
+  // and on a text of one repeated character where almost every alignment matches
+  public static void main(String[] args) {
+    Random random = new Random(0);
+    char[] chars = new char[1 << 20];
+    for (int i = 0; i < chars.length; i++) chars[i] = random.nextInt(4096) == 0 ? 'b' : 'a';
+    String runs = new String(chars);
+    char[] same = new char[1 << 20];
+    Arrays.fill(same, 'a');
+    String dense = new String(same);
+
+    for (String text : new String[] {runs, dense}) {
+      for (int m : new int[] {64, 512, 2048, 8192, 32768}) {
+        int start = random.nextInt(text.length() - m);
+        char[] pattern = text.substring(start, start + m).toCharArray();
+        for (int j = 0; j < m; j += 3) pattern[j] = DEFAULT_WILDCARD;
+        if (text == runs) pattern[m - 1] = 'b';
+        WildcardMatcher matcher = new WildcardMatcher(new String(pattern));
+        int transformMatches = 0;
+        long transformNanos = 0;
+        for (int round = 0; round < 3; round++) {
+          long begin = System.nanoTime();
+          transformMatches = matcher.forEachTransform(text, offset -> {});
+          transformNanos = System.nanoTime() - begin;
+        }
+        // Once only, as direct checking of the longest dense patterns takes close to a minute
+        long begin = System.nanoTime();
+        int naiveMatches = matcher.forEachNaive(text, offset -> {});
+        long naiveNanos = System.nanoTime() - begin;
+        System.out.printf(
+            "%s m=%d transform=%dms (%d matches) naive=%dms (%d matches)%n",
+            text == runs ? "runs" : "dense", m, transformNanos / 1_000_000, transformMatches,
+            naiveNanos / 1_000_000, naiveMatches);
+      }
+    }
+  }
+}
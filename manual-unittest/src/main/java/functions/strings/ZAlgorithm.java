@@ -27,7 +27,25 @@ package functions.strings;
 
 import static java.util.Objects.isNull;
 
-public class ZAlgorithm {
+import java.util.ArrayList;
+import java.util.List;
+
+public class ZAlgorithm implements StringSearcher {
+
+  /**
+   * Finds every occurrence of pattern in text in linear time using the pattern's Z-array
+   *
+   * @param text the string being searched in
+   * @param pattern the string being searched for
+   * @return List of indexes where the pattern occurs
+   */
+  @Override
+  public List<Integer> findOccurrences(String text, String pattern) {
+    if (isNull(text) || isNull(pattern) || pattern.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return new ZAlgorithmMatcher(pattern).find(text);
+  }
 
   /**
    * Calculates the Z-array of a given string
@@ -63,4 +81,171 @@ public class ZAlgorithm {
     }
     return Z;
   }
+
+  /**
+   * Calculates the Z-array of text[offset, offset + length) into a caller supplied workspace, so a
+   * loop over many records allocates nothing
+   *
+   * @param text the characters on which Z-array is computed
+   * @param offset index of the first character of the slice
+   * @param length number of characters in the slice
+   * @param Z the workspace receiving the Z-array in Z[0, length)
+   * @return Z, for convenience
+   */
+  public int[] calculateZ(char[] text, int offset, int length, int[] Z) {
+    checkSlice(text.length, offset, length, Z);
+    int L = 0, R = 0;
+    for (int i = 1; i < length; i++) {
+      int z = 0;
+      if (i < R) z = Math.min(R - i, Z[i - L]);
+      while (i + z < length && text[offset + z] == text[offset + i + z]) z++;
+      Z[i] = z;
+      if (i + z > R) {
+        L = i;
+        R = i + z;
+      }
+    }
+    if (length > 0) Z[0] = length;
+    return Z;
+  }
+
+  /**
+   * Calculates the Z-array of text[offset, offset + length) into a caller supplied workspace, so a
+   * loop over many records allocates nothing
+   *
+   * @param text the bytes on which Z-array is computed
+   * @param offset index of the first byte of the slice
+   * @param length number of bytes in the slice
+   * @param Z the workspace receiving the Z-array in Z[0, length)
+   * @return Z, for convenience
+   */
+  public int[] calculateZ(byte[] text, int offset, int length, int[] Z) {
+    checkSlice(text.length, offset, length, Z);
+    int L = 0, R = 0;
+    for (int i = 1; i < length; i++) {
+      int z = 0;
+      if (i < R) z = Math.min(R - i, Z[i - L]);
+      while (i + z < length && text[offset + z] == text[offset + i + z]) z++;
+      Z[i] = z;
+      if (i + z > R) {
+        L = i;
+        R = i + z;
+      }
+    }
+    if (length > 0) Z[0] = length;
+    return Z;
+  }
+
+  /**
+   * Calculates the Z-array of a slice of a token sequence into a caller supplied workspace
+   *
+   * @param text the symbols on which Z-array is computed
+   * @param offset index of the first symbol of the slice
+   * @param length number of symbols in the slice
+   * @param Z the workspace receiving the Z-array in Z[0, length)
+   * @return Z, for convenience
+   */
+  public int[] calculateZ(int[] text, int offset, int length, int[] Z) {
+    checkSlice(text.length, offset, length, Z);
+    int L = 0, R = 0;
+    for (int i = 1; i < length; i++) {
+      int z = 0;
+      if (i < R) z = Math.min(R - i, Z[i - L]);
+      while (i + z < length && text[offset + z] == text[offset + i + z]) z++;
+      Z[i] = z;
+      if (i + z > R) {
+        L = i;
+        R = i + z;
+      }
+    }
+    if (length > 0) Z[0] = length;
+    return Z;
+  }
+
+  /**
+   * Calculates the Z-array of a slice of a token sequence into a caller supplied workspace
+   *
+   * @param text the symbols on which Z-array is computed
+   * @param offset index of the first symbol of the slice
+   * @param length number of symbols in the slice
+   * @param Z the workspace receiving the Z-array in Z[0, length)
+   * @return Z, for convenience
+   */
+  public int[] calculateZ(long[] text, int offset, int length, int[] Z) {
+    checkSlice(text.length, offset, length, Z);
+    int L = 0, R = 0;
+    for (int i = 1; i < length; i++) {
+      int z = 0;
+      if (i < R) z = Math.min(R - i, Z[i - L]);
+      while (i + z < length && text[offset + z] == text[offset + i + z]) z++;
+      Z[i] = z;
+      if (i + z > R) {
+        L = i;
+        R = i + z;
+      }
+    }
+    if (length > 0) Z[0] = length;
+    return Z;
+  }
+
+  /**
+   * Finds every occurrence of a token sequence in another. The pattern's Z-array is reused to
+   * extend the longest match at each text position, as if the Z-array of pattern + text were
+   * computed, without building the concatenation or needing a separator symbol.
+   *
+   * @param text the symbols being searched in
+   * @param pattern the symbols being searched for
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> findTokenOccurrences(int[] text, int[] pattern) {
+    List<Integer> occurrences = new ArrayList<>();
+    if (isNull(text) || isNull(pattern) || pattern.length == 0) return occurrences;
+    int m = pattern.length;
+    int[] Z = calculateZ(pattern, 0, m, new int[m]);
+    // text[L, R) is the rightmost window known to equal pattern[0, R - L)
+    int L = 0, R = 0;
+    for (int i = 0; i + m <= text.length; i++) {
+      int z = i < R ? Math.min(R - i, Z[i - L]) : 0;
+      if (i + z >= R) {
+        while (z < m && text[i + z] == pattern[z]) z++;
+        L = i;
+        R = i + z;
+      }
+      if (z == m) occurrences.add(i);
+    }
+    return occurrences;
+  }
+
+  /**
+   * Finds every occurrence of a sequence of long symbol ids in another, reusing the pattern's
+   * Z-array the same way as the int[] variant
+   *
+   * @param text the symbols being searched in
+   * @param pattern the symbols being searched for
+   * @return List of indexes where the pattern occurs
+   */
+  public List<Integer> findTokenOccurrences(long[] text, long[] pattern) {
+    List<Integer> occurrences = new ArrayList<>();
+    if (isNull(text) || isNull(pattern) || pattern.length == 0) return occurrences;
+    int m = pattern.length;
+    int[] Z = calculateZ(pattern, 0, m, new int[m]);
+    int L = 0, R = 0;
+    for (int i = 0; i + m <= text.length; i++) {
+      int z = i < R ? Math.min(R - i, Z[i - L]) : 0;
+      if (i + z >= R) {
+        while (z < m && text[i + z] == pattern[z]) z++;
+        L = i;
+        R = i + z;
+      }
+      if (z == m) occurrences.add(i);
+    }
+    return occurrences;
+  }
+
+  private static void checkSlice(int textLength, int offset, int length, int[] Z) {
+    if (offset < 0 || length < 0 || offset > textLength - length) {
+      throw new IndexOutOfBoundsException("slice is outside of text");
+    }
+    if (Z.length < length) throw new IllegalArgumentException("Z is shorter than the slice");
+  }
 }
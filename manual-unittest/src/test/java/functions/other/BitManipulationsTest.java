@@ -63,4 +63,13 @@ public class BitManipulationsTest {
     assertThat(BitManipulations.clearBit(0b0001, 0)).isEqualTo(0);
     assertThat(BitManipulations.clearBit(0b1111, 0)).isEqualTo(14);
   }
+
+  @Test
+  public void testLongBits() {
+    assertThat(BitManipulations.setBit(0L, 63)).isEqualTo(Long.MIN_VALUE);
+    assertThat(BitManipulations.setBit(0L, 40)).isEqualTo(1L << 40);
+    assertThat(BitManipulations.clearBit(-1L, 63)).isEqualTo(Long.MAX_VALUE);
+    assertThat(BitManipulations.isSet(1L << 50, 50)).isTrue();
+    assertThat(BitManipulations.isSet(1L << 50, 18)).isFalse();
+  }
 }
@@ -0,0 +1,142 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import functions.strings.AdaptiveStringSearch.Strategy;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class AdaptiveStringSearchTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidThresholds() {
+    assertThrows(IllegalArgumentException.class, () -> new AdaptiveStringSearch(-1, 64));
+    assertThrows(IllegalArgumentException.class, () -> new AdaptiveStringSearch(4, 0));
+  }
+
+  @Test
+  public void shouldPickStrategyFromPatternAlphabetAndTextLength() {
+    AdaptiveStringSearch underTest = new AdaptiveStringSearch(4, 128);
+    String dna = generateRandomString(3, 1000);
+    String letters = generateRandomString(25, 1000);
+    StringBuilder periodic = new StringBuilder();
+    while (periodic.length() < 200) periodic.append(letters, 10, 30);
+    assertThat(underTest.strategyFor(dna.substring(0, 100), "acgt"))
+        .isEqualTo(Strategy.BOYER_MOORE);
+    assertThat(underTest.strategyFor(dna, dna.substring(10, 40))).isEqualTo(Strategy.BITAP);
+    assertThat(underTest.strategyFor(dna, dna.substring(10, 100))).isEqualTo(Strategy.BOYER_MOORE);
+    assertThat(underTest.strategyFor(dna, dna.substring(10, 200)))
+        .isEqualTo(Strategy.BOYER_MOORE_GALIL);
+    assertThat(underTest.strategyFor(letters, letters.substring(10, 40)))
+        .isEqualTo(Strategy.BOYER_MOORE);
+    assertThat(underTest.strategyFor(letters, letters.substring(10, 200)))
+        .isEqualTo(Strategy.BOYER_MOORE_GALIL);
+    assertThat(underTest.strategyFor(letters, periodic.toString()))
+        .isEqualTo(Strategy.BOYER_MOORE_GALIL);
+    assertThat(underTest.strategyFor(letters, periodic.substring(0, 100)))
+        .isEqualTo(Strategy.BOYER_MOORE);
+  }
+
+  @Test
+  public void shouldPickGalilForLongPatternsWhichDefeatTheBadCharacterRule() {
+    AdaptiveStringSearch underTest = new AdaptiveStringSearch();
+    char[] run = new char[1 << 16];
+    Arrays.fill(run, 'a');
+    String text = new String(run);
+    // Not periodic, yet every alignment compares m - 1 characters before the bad-character rule
+    // shifts by one
+    String pattern = 'b' + text.substring(0, 999);
+    assertThat(underTest.strategyFor(text, pattern)).isEqualTo(Strategy.BOYER_MOORE_GALIL);
+    assertThat(underTest.findOccurrences(text, pattern)).isEmpty();
+  }
+
+  @Test
+  public void shouldHandleNullAndEmptyArguments() {
+    StringSearcher[] searchers = {
+      new AdaptiveStringSearch(),
+      new BoyerMooreStringSearch(),
+      new ZAlgorithm(),
+      Strategy.BITAP,
+      Strategy.BOYER_MOORE_GALIL,
+      Strategy.BOYER_MOORE
+    };
+    for (StringSearcher searcher : searchers) {
+      assertThat(searcher.findOccurrences(null, "a")).isEmpty();
+      assertThat(searcher.findOccurrences("a", null)).isEmpty();
+      assertThat(searcher.findOccurrences("a", "")).isEmpty();
+      assertThat(searcher.findOccurrences("a", "aa")).isEmpty();
+    }
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreForEveryStrategy() {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    StringSearcher[] searchers = {
+      new AdaptiveStringSearch(),
+      new ZAlgorithm(),
+      Strategy.BITAP,
+      Strategy.BOYER_MOORE_GALIL,
+      Strategy.BOYER_MOORE
+    };
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(1000) + 100);
+      String pattern = generateRandomString(random.nextInt(3), random.nextInt(128) + 1);
+      for (StringSearcher searcher : searchers) {
+        assertThat(searcher.findOccurrences(text, pattern))
+            .containsExactlyElementsIn(boyerMoore.findOccurrences(text, pattern))
+            .inOrder();
+      }
+    }
+  }
+
+  @Test
+  public void shouldCalibrateThresholds() {
+    AdaptiveStringSearch calibrated = AdaptiveStringSearch.calibrate();
+    assertThat(calibrated.bitapMaxAlphabet()).isAtLeast(0);
+    assertThat(calibrated.galilMinPatternLength()).isAtLeast(1);
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
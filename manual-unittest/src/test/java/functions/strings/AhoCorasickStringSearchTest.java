@@ -0,0 +1,121 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class AhoCorasickStringSearchTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldThrowOnNullPatterns() {
+    assertThrows(IllegalArgumentException.class, () -> new AhoCorasickStringSearch(null));
+  }
+
+  @Test
+  public void shouldReturnEmptyListOnNullOrEmptyInput() {
+    AhoCorasickStringSearch underTest = new AhoCorasickStringSearch(new String[] {"a", "", null});
+    assertThat(underTest.findOccurrences(null)).isEmpty();
+    assertThat(underTest.findOccurrences("")).isEmpty();
+    assertThat(underTest.findOccurrences("bbb")).isEmpty();
+  }
+
+  @Test
+  public void shouldReportOverlappingAndNestedPatterns() {
+    AhoCorasickStringSearch underTest =
+        new AhoCorasickStringSearch(new String[] {"he", "she", "his", "hers"});
+    assertThat(toStrings(underTest.findOccurrences("ushers")))
+        .containsExactly("1@1", "0@2", "3@2")
+        .inOrder();
+  }
+
+  @Test
+  public void shouldSearchByteRangesAsLatin1() {
+    AhoCorasickStringSearch underTest =
+        new AhoCorasickStringSearch(new String[] {"he", "she", "\u00ff\u0000"});
+    byte[] text = {'x', 's', 'h', 'e', (byte) 0xFF, 0, 's', 'h'};
+    List<String> matches = new ArrayList<>();
+    underTest.search(text, 1, 7, (patternId, offset) -> matches.add(patternId + "@" + offset));
+    assertThat(matches).containsExactly("1@1", "0@2", "2@4").inOrder();
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> underTest.search(text, 2, 9, (id, offset) -> {}));
+  }
+
+  @Test
+  public void shouldReportDuplicatePatternsUnderEveryId() {
+    AhoCorasickStringSearch underTest = new AhoCorasickStringSearch(new String[] {"AA", "A", "AA"});
+    assertThat(toStrings(underTest.findOccurrences("AAA")))
+        .containsExactly("1@0", "0@0", "2@0", "1@1", "0@1", "2@1", "1@2");
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreOnRandomInput() {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(3, random.nextInt(1000) + 100);
+      String[] patterns = new String[random.nextInt(20) + 1];
+      for (int i = 0; i < patterns.length; i++) {
+        patterns[i] = generateRandomString(3, random.nextInt(6) + 1);
+      }
+      List<String> expected = new ArrayList<>();
+      for (int i = 0; i < patterns.length; i++) {
+        for (int offset : boyerMoore.findOccurrences(text, patterns[i])) {
+          expected.add(i + "@" + offset);
+        }
+      }
+      assertThat(toStrings(new AhoCorasickStringSearch(patterns).findOccurrences(text)))
+          .containsExactlyElementsIn(expected);
+    }
+  }
+
+  private static List<String> toStrings(List<int[]> occurrences) {
+    List<String> result = new ArrayList<>();
+    for (int[] occurrence : occurrences) result.add(occurrence[0] + "@" + occurrence[1]);
+    return result;
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
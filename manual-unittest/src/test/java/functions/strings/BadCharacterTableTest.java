@@ -0,0 +1,72 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.*;
+
+public class BadCharacterTableTest {
+
+  @Test
+  public void shouldReturnMinusOneForAbsentCharacters() {
+    BadCharacterTable underTest = new BadCharacterTable("abc");
+    assertThat(underTest.lastIndexOf('z')).isEqualTo(-1);
+    assertThat(underTest.lastIndexOf('一')).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldReturnLastIndexOfEveryCharacter() {
+    BadCharacterTable underTest = new BadCharacterTable("a一b一a￿Ā");
+    assertThat(underTest.lastIndexOf('a')).isEqualTo(4);
+    assertThat(underTest.lastIndexOf('b')).isEqualTo(2);
+    assertThat(underTest.lastIndexOf('一')).isEqualTo(3);
+    assertThat(underTest.lastIndexOf('￿')).isEqualTo(5);
+    assertThat(underTest.lastIndexOf('Ā')).isEqualTo(6);
+    assertThat(underTest.lastIndexOf('ā')).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldHandleManyDistinctHighCharacters() {
+    StringBuilder pattern = new StringBuilder();
+    for (char c = '　'; c < '㐀'; c++) pattern.append(c);
+    BadCharacterTable underTest = new BadCharacterTable(pattern);
+    for (char c = '　'; c < '㐀'; c++) {
+      assertThat(underTest.lastIndexOf(c)).isEqualTo(c - '　');
+    }
+    assertThat(underTest.lastIndexOf('㐀')).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldHandleLongPatternOfFewHighCharacters() {
+    StringBuilder pattern = new StringBuilder();
+    for (int i = 0; i < 1 << 16; i++) pattern.append(i % 2 == 0 ? '一' : '丁');
+    BadCharacterTable underTest = new BadCharacterTable(pattern);
+    assertThat(underTest.lastIndexOf('一')).isEqualTo((1 << 16) - 2);
+    assertThat(underTest.lastIndexOf('丁')).isEqualTo((1 << 16) - 1);
+    assertThat(underTest.lastIndexOf('七')).isEqualTo(-1);
+  }
+}
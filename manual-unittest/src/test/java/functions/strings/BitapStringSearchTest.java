@@ -0,0 +1,140 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class BitapStringSearchTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectPatternOutsideOneToSixtyFourChars() {
+    assertThrows(IllegalArgumentException.class, () -> new BitapStringSearch(null));
+    assertThrows(IllegalArgumentException.class, () -> new BitapStringSearch(""));
+    assertThrows(
+        IllegalArgumentException.class, () -> new BitapStringSearch(generateRandomString(2, 65)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new BitapStringSearch("ab").forEachWithMismatches("abc", -1, offset -> {}));
+  }
+
+  @Test
+  public void shouldFindExactOccurrences() {
+    assertThat(new BitapStringSearch("AA").find("ABABAAABAABAB")).containsExactly(4, 5, 8);
+    assertThat(new BitapStringSearch("жук").find("жужжук жук")).containsExactly(3, 7);
+    assertThat(new BitapStringSearch("x").find(null)).isEmpty();
+    String longPattern = generateRandomString(3, 64);
+    assertThat(new BitapStringSearch(longPattern).find("a" + longPattern)).containsExactly(1);
+  }
+
+  @Test
+  public void shouldFindOccurrencesWithMismatches() {
+    List<Integer> offsets = new ArrayList<>();
+    int count = new BitapStringSearch("abc").forEachWithMismatches("abdxbcabc", 1, offsets::add);
+    assertThat(count).isEqualTo(3);
+    assertThat(offsets).containsExactly(0, 3, 6).inOrder();
+  }
+
+  @Test
+  public void shouldFindOccurrencesWithEdits() {
+    List<Integer> ends = new ArrayList<>();
+    new BitapStringSearch("abcd").forEachWithEdits("xxabdxx", 1, ends::add);
+    assertThat(ends).containsExactly(5);
+  }
+
+  @Test
+  public void shouldMatchBruteForceOnRandomInput() {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(500) + 50);
+      String pattern = generateRandomString(random.nextInt(3), random.nextInt(64) + 1);
+      int k = random.nextInt(4);
+      BitapStringSearch underTest = new BitapStringSearch(pattern);
+      assertThat(underTest.find(text))
+          .containsExactlyElementsIn(boyerMoore.findOccurrences(text, pattern))
+          .inOrder();
+      List<Integer> mismatches = new ArrayList<>();
+      underTest.forEachWithMismatches(text, k, mismatches::add);
+      assertThat(mismatches).containsExactlyElementsIn(hammingMatches(text, pattern, k)).inOrder();
+      List<Integer> edits = new ArrayList<>();
+      underTest.forEachWithEdits(text, k, edits::add);
+      assertThat(edits).containsExactlyElementsIn(editMatchEnds(text, pattern, k)).inOrder();
+    }
+  }
+
+  private static List<Integer> hammingMatches(String text, String pattern, int k) {
+    List<Integer> matches = new ArrayList<>();
+    for (int i = 0; i + pattern.length() <= text.length(); i++) {
+      int mismatches = 0;
+      for (int j = 0; j < pattern.length(); j++) {
+        if (text.charAt(i + j) != pattern.charAt(j)) mismatches++;
+      }
+      if (mismatches <= k) matches.add(i);
+    }
+    return matches;
+  }
+
+  // Sellers' dynamic programming: the pattern may start anywhere in text
+  private static List<Integer> editMatchEnds(String text, String pattern, int k) {
+    int m = pattern.length();
+    int[] column = new int[m + 1];
+    for (int j = 0; j <= m; j++) column[j] = j;
+    List<Integer> ends = new ArrayList<>();
+    for (int i = 0; i < text.length(); i++) {
+      int diagonal = column[0];
+      for (int j = 1; j <= m; j++) {
+        int above = column[j];
+        int cost = pattern.charAt(j - 1) == text.charAt(i) ? 0 : 1;
+        column[j] = Math.min(Math.min(above + 1, column[j - 1] + 1), diagonal + cost);
+        diagonal = above;
+      }
+      if (column[m] <= k) ends.add(i + 1);
+    }
+    return ends;
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class BoyerMooreGalilSearchTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 50;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectNullOrEmptyPattern() {
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMooreGalilSearch(null));
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMooreGalilSearch(""));
+  }
+
+  @Test
+  public void shouldReturnEmptyListOnNullOrShortText() {
+    assertThat(new BoyerMooreGalilSearch("abc").find(null)).isEmpty();
+    assertThat(new BoyerMooreGalilSearch("abc").find("ab")).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnOverlappingOccurrencesOfPeriodicPatterns() {
+    assertThat(new BoyerMooreGalilSearch("AA").find("AAAAAAA"))
+        .containsExactly(0, 1, 2, 3, 4, 5)
+        .inOrder();
+    assertThat(new BoyerMooreGalilSearch("ABAB").find("ABABABABAB"))
+        .containsExactly(0, 2, 4, 6)
+        .inOrder();
+    assertThat(new BoyerMooreGalilSearch("AABA").find("AABAACAADAABAABA"))
+        .containsExactly(0, 9, 12)
+        .inOrder();
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreOnRandomInput() {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(1000) + 100);
+      String pattern = generateRandomString(random.nextInt(3), random.nextInt(10) + 1);
+      assertThat(new BoyerMooreGalilSearch(pattern).find(text))
+          .containsExactlyElementsIn(boyerMoore.findOccurrences(text, pattern))
+          .inOrder();
+    }
+  }
+
+  @Test
+  public void shouldStayLinearOnPeriodicInput() {
+    char[] chars = new char[1 << 20];
+    Arrays.fill(chars, 'A');
+    String text = new String(chars);
+    BoyerMooreGalilSearch underTest = new BoyerMooreGalilSearch(text.substring(0, 1 << 12));
+    // The bad-character search needs about 4 * 10^9 comparisons here
+    int count = assertTimeout(Duration.ofSeconds(2), () -> underTest.forEach(text, offset -> {}));
+    assertThat(count).isEqualTo(text.length() - (1 << 12) + 1);
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
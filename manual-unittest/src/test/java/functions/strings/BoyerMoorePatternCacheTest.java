@@ -0,0 +1,127 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.*;
+
+public class BoyerMoorePatternCacheTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMoorePatternCache(0));
+  }
+
+  @Test
+  public void shouldRejectNullAndEmptyPatterns() {
+    BoyerMoorePatternCache underTest = new BoyerMoorePatternCache(2);
+    assertThrows(IllegalArgumentException.class, () -> underTest.get(null));
+    assertThrows(IllegalArgumentException.class, () -> underTest.get(""));
+    assertThat(underTest.missCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldCountHitsAndMisses() {
+    BoyerMoorePatternCache underTest = new BoyerMoorePatternCache(2);
+    BoyerMoorePattern first = underTest.get("abc");
+    assertThat(underTest.get("abc")).isSameInstanceAs(first);
+    underTest.get("xyz");
+    assertThat(underTest.hitCount()).isEqualTo(1);
+    assertThat(underTest.missCount()).isEqualTo(2);
+    assertThat(underTest.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldEvictPatternNotUsedSinceInserted() {
+    BoyerMoorePatternCache underTest = new BoyerMoorePatternCache(2);
+    BoyerMoorePattern a = underTest.get("a");
+    underTest.get("b");
+    underTest.get("a");
+    underTest.get("c"); // evicts "b"
+    assertThat(underTest.get("a")).isSameInstanceAs(a);
+    assertThat(underTest.size()).isEqualTo(2);
+    underTest.get("b");
+    assertThat(underTest.missCount()).isEqualTo(4);
+    assertThat(underTest.capacity()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldStayWithinCapacity() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      int capacity = random.nextInt(16) + 1;
+      BoyerMoorePatternCache underTest = new BoyerMoorePatternCache(capacity);
+      for (int i = 0; i < 1000; i++) {
+        String pattern = "p" + random.nextInt(4 * capacity);
+        assertThat(underTest.get(pattern).pattern()).isEqualTo(pattern);
+        assertThat(underTest.size()).isAtMost(capacity);
+      }
+      assertThat(underTest.hitCount() + underTest.missCount()).isEqualTo(1000);
+      underTest.clear();
+      assertThat(underTest.size()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void shouldBeSafeToShareBetweenThreads() throws Exception {
+    BoyerMoorePatternCache underTest = new BoyerMoorePatternCache(8);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int task = 0; task < 8; task++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  Random taskRandom = new Random();
+                  for (int i = 0; i < 10_000; i++) {
+                    String pattern = "p" + taskRandom.nextInt(12);
+                    assertThat(underTest.get(pattern).find("xx" + pattern)).containsExactly(2);
+                  }
+                }));
+      }
+      for (Future<?> result : results) result.get();
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(underTest.hitCount() + underTest.missCount()).isEqualTo(80_000);
+    assertThat(underTest.size()).isAtMost(8);
+  }
+}
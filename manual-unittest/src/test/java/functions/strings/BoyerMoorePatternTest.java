@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.*;
+
+public class BoyerMoorePatternTest {
+
+  @Test
+  public void shouldRejectNullOrEmptyPattern() {
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMoorePattern(null));
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMoorePattern(""));
+  }
+
+  @Test
+  public void shouldFindOccurrencesRepeatedly() {
+    BoyerMoorePattern underTest = new BoyerMoorePattern("AA");
+    assertThat(underTest.find("ABABAAABAABAB")).containsExactly(4, 5, 8);
+    assertThat(underTest.find("AAAA")).containsExactly(0, 1, 2);
+    assertThat(underTest.find("A")).isEmpty();
+    assertThat(underTest.find(null)).isEmpty();
+  }
+
+  @Test
+  public void shouldDeliverResultsWithoutBoxing() {
+    BoyerMoorePattern underTest = new BoyerMoorePattern("AA");
+    String text = "AAAAAAA";
+
+    List<Integer> consumed = new ArrayList<>();
+    assertThat(underTest.forEach(text, consumed::add)).isEqualTo(6);
+    assertThat(consumed).containsExactly(0, 1, 2, 3, 4, 5).inOrder();
+
+    consumed.clear();
+    assertThat(underTest.forEach(text, 2, consumed::add)).isEqualTo(2);
+    assertThat(consumed).containsExactly(0, 1).inOrder();
+    assertThat(underTest.forEach(text, 0, consumed::add)).isEqualTo(0);
+
+    int[] out = new int[4];
+    assertThat(underTest.find(text, out)).isEqualTo(4);
+    assertThat(out).isEqualTo(new int[] {0, 1, 2, 3});
+    assertThat(underTest.find("xAAx", out)).isEqualTo(1);
+    assertThat(out[0]).isEqualTo(1);
+
+    assertThat(underTest.count(text)).isEqualTo(6);
+    assertThat(underTest.count(null)).isEqualTo(0);
+    assertThat(underTest.findFirst("ABABAAABAABAB")).isEqualTo(4);
+    assertThat(underTest.findFirst("ABAB")).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldBeSafeToShareBetweenThreads() throws Exception {
+    BoyerMoorePattern underTest = new BoyerMoorePattern("te");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<Integer>>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> underTest.find("Sample text for testing")));
+      }
+      for (Future<List<Integer>> result : results) {
+        assertThat(result.get()).containsExactly(7, 16);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class BoyerMooreStreamSearchTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMooreStreamSearch(null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new BoyerMooreStreamSearch(new BoyerMoorePattern("a"), 0));
+  }
+
+  @Test
+  public void shouldFindMatchesCrossingChunkBoundaries() throws IOException {
+    BoyerMooreStreamSearch underTest = new BoyerMooreStreamSearch(new BoyerMoorePattern("AABA"), 3);
+    List<Long> offsets = new ArrayList<>();
+    long count = underTest.search(new StringReader("AABAACAADAABAABA"), offsets::add);
+    assertThat(offsets).containsExactly(0L, 9L, 12L).inOrder();
+    assertThat(count).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldSearchChannelWithCharOffsets() throws IOException {
+    BoyerMooreStreamSearch underTest = new BoyerMooreStreamSearch(new BoyerMoorePattern("мир"), 2);
+    List<Long> offsets = new ArrayList<>();
+    byte[] bytes = "Привет, мир! мир".getBytes(StandardCharsets.UTF_8);
+    underTest.search(
+        Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8, offsets::add);
+    assertThat(offsets).containsExactly(8L, 13L).inOrder();
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreOnRandomInput() throws IOException {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(2, random.nextInt(1000) + 100);
+      String pattern = generateRandomString(2, random.nextInt(8) + 1);
+      BoyerMooreStreamSearch underTest =
+          new BoyerMooreStreamSearch(new BoyerMoorePattern(pattern), random.nextInt(16) + 1);
+      List<Integer> offsets = new ArrayList<>();
+      underTest.search(new StringReader(text), offset -> offsets.add((int) offset));
+      assertThat(offsets)
+          .containsExactlyElementsIn(boyerMoore.findOccurrences(text, pattern))
+          .inOrder();
+    }
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -31,6 +31,7 @@ import static java.util.Objects.isNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.*;
 
 public class BoyerMooreStringSearchTest {
@@ -83,6 +84,25 @@ public class BoyerMooreStringSearchTest {
         .isEmpty();
   }
 
+  @Test
+  public void shouldHandleCharactersAboveLatin1() {
+    assertThat(underTest.findOccurrences("Привет, мир! Привет!", "Привет")).containsExactly(0, 13);
+    assertThat(underTest.findOccurrences("日本語のテキスト日本", "日本")).containsExactly(0, 8);
+    assertThat(underTest.findOccurrences("abc\uFFFFabc", "\uFFFFa")).containsExactly(3);
+    assertThat(underTest.findOccurrences("ascii only text", "\u0100")).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnDynamicUnicodeString() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString('\u4E00', random.nextInt(3), random.nextInt(1000) + 100);
+      String pattern = generateRandomString('\u4E00', random.nextInt(3), random.nextInt(10));
+      assertThat(underTest.findOccurrences(text, pattern))
+          .containsExactlyElementsIn(getOccurrencesBruteForce(text, pattern));
+    }
+  }
+
   @Test
   public void shouldReturnDynamicString() {
     int runLength = random.nextInt(MAX_ITERATION) + 1;
@@ -99,6 +119,50 @@ public class BoyerMooreStringSearchTest {
     }
   }
 
+  @Test
+  public void shouldReturnSameOccurrencesInParallel() {
+    assertThat(underTest.findOccurrencesParallel(null, "a")).isEmpty();
+    assertThat(underTest.findOccurrencesParallel("AAAAAAA", "AA"))
+        .containsExactly(0, 1, 2, 3, 4, 5)
+        .inOrder();
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      String text = generateRandomString(1, BoyerMooreStringSearch.PARALLEL_THRESHOLD * 2 + 17);
+      for (String pattern : new String[] {"a", "ab", "abbab", "aaaaaaaaaaa"}) {
+        assertThat(underTest.findOccurrencesParallel(text, pattern, pool))
+            .containsExactlyElementsIn(underTest.findOccurrences(text, pattern))
+            .inOrder();
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldFindOccurrencesIgnoringCase() {
+    assertThat(underTest.findOccurrencesIgnoreCase("Hello HELLO hello", "hELLo"))
+        .containsExactly(0, 6, 12)
+        .inOrder();
+    assertThat(underTest.findOccurrencesIgnoreCase("ΟΔΟΣ οδος", "οδοσ")).containsExactly(0, 5);
+    assertThat(underTest.findOccurrencesIgnoreCase("\u212Aelvin", "kELVIN")).containsExactly(0);
+    assertThat(underTest.findOccurrencesIgnoreCase(null, "a")).isEmpty();
+
+    String alphabet = "aAbBσΣς";
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = randomString(alphabet, random.nextInt(1000) + 100);
+      String pattern = randomString(alphabet, random.nextInt(10) + 1);
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i + pattern.length() <= text.length(); i++) {
+        if (text.regionMatches(true, i, pattern, 0, pattern.length())) expected.add(i);
+      }
+      assertThat(underTest.findOccurrencesIgnoreCase(text, pattern))
+          .containsExactlyElementsIn(expected)
+          .inOrder();
+    }
+  }
+
   /**
    * @param text the text being searched in
    * @param pattern the pattern that needs to be searched in text
@@ -127,14 +191,32 @@ public class BoyerMooreStringSearchTest {
     return occurrences;
   }
 
+  private String randomString(String alphabet, int length) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+
   /**
    * @param upperLimitAscii Largest element in the random string
    * @param length Length of the random string
    * @return Returns a random string containing character between [a-z]
    */
   private String generateRandomString(int upperLimitAscii, int length) {
+    return generateRandomString('a', upperLimitAscii, length);
+  }
+
+  /**
+   * @param first Smallest element in the random string
+   * @param range Largest element in the random string relative to first
+   * @param length Length of the random string
+   * @return Returns a random string containing character between [first, first + range]
+   */
+  private String generateRandomString(char first, int range, int length) {
     return random
-        .ints('a', 'a' + upperLimitAscii + 1)
+        .ints(first, first + range + 1)
         .limit(length)
         .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
         .toString();
@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class BoyerMooreTokenPatternTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectNullOrEmptyPattern() {
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMooreTokenPattern((int[]) null));
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMooreTokenPattern(new long[0]));
+  }
+
+  @Test
+  public void shouldMatchSymbolsOutsideTheDirectRange() {
+    long[] pattern = {Long.MIN_VALUE, 0, -1, 255, 256};
+    long[] text = {7, Long.MIN_VALUE, 0, -1, 255, 256, Long.MIN_VALUE, 0, -1, 255, 256};
+    BoyerMooreTokenPattern underTest = new BoyerMooreTokenPattern(pattern);
+    assertThat(underTest.find(text)).containsExactly(1, 6).inOrder();
+    assertThat(underTest.find(new int[] {0, -1, 255, 256})).isEmpty();
+    assertThat(new BoyerMooreTokenPattern(new int[] {-1, 1 << 30}).find(new long[] {-1, 1 << 30}))
+        .containsExactly(0);
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    assertThat(boyerMoore.findTokenOccurrences(new int[] {3, 3, 3}, new int[] {3, 3}))
+        .containsExactly(0, 1)
+        .inOrder();
+  }
+
+  @Test
+  public void shouldMatchZAlgorithmOnRandomTokens() {
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      // Few distinct but widely spread ids, so that the hashed part of the table is exercised
+      int[] symbols = random.ints(random.nextInt(4) + 1).toArray();
+      int[] text = randomTokens(symbols, random.nextInt(1000) + 100);
+      int[] pattern = randomTokens(symbols, random.nextInt(8) + 1);
+      assertThat(new BoyerMooreTokenPattern(pattern).find(text))
+          .containsExactlyElementsIn(zAlgorithm.findTokenOccurrences(text, pattern))
+          .inOrder();
+      long[] longText = widen(text);
+      long[] longPattern = widen(pattern);
+      assertThat(boyerMoore.findTokenOccurrences(longText, longPattern))
+          .containsExactlyElementsIn(zAlgorithm.findTokenOccurrences(longText, longPattern))
+          .inOrder();
+    }
+  }
+
+  private int[] randomTokens(int[] symbols, int length) {
+    int[] tokens = new int[length];
+    for (int i = 0; i < length; i++) tokens[i] = symbols[random.nextInt(symbols.length)];
+    return tokens;
+  }
+
+  private static long[] widen(int[] tokens) {
+    long[] wide = new long[tokens.length];
+    for (int i = 0; i < tokens.length; i++) wide[i] = (long) tokens[i] << 20;
+    return wide;
+  }
+}
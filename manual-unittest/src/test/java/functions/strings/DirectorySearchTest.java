@@ -0,0 +1,160 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DirectorySearchTest {
+
+  @TempDir Path tempDir;
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidArguments() {
+    String[] patterns = {"abc"};
+    assertThrows(IllegalArgumentException.class, () -> new DirectorySearch(null));
+    assertThrows(IllegalArgumentException.class, () -> new DirectorySearch(patterns, 0, 1, 16));
+    assertThrows(IllegalArgumentException.class, () -> new DirectorySearch(patterns, 1, 0, 16));
+    assertThrows(IllegalArgumentException.class, () -> new DirectorySearch(patterns, 1, 1, 2));
+  }
+
+  @Test
+  public void shouldReportByteOffsetsInOrderPerFile() throws IOException {
+    Path nested = Files.createDirectories(tempDir.resolve("a").resolve("b"));
+    Path first = write(tempDir.resolve("first.txt"), "grüße abc grüße");
+    Path second = write(nested.resolve("second.txt"), "xxabcabc");
+    write(tempDir.resolve("empty.txt"), "");
+    Map<Path, List<String>> matches = new HashMap<>();
+    DirectorySearch underTest = new DirectorySearch(new String[] {"abc", "grüße"}, 2, 2, 8);
+    DirectorySearch.Result result =
+        underTest.search(
+            tempDir,
+            (file, patternId, offset) ->
+                matches
+                    .computeIfAbsent(file, f -> new ArrayList<>())
+                    .add(patternId + "@" + offset));
+    assertThat(matches.get(first)).containsExactly("1@0", "0@8", "1@12").inOrder();
+    assertThat(matches.get(second)).containsExactly("0@2", "0@5").inOrder();
+    assertThat(result.files()).isEqualTo(3);
+    assertThat(result.failedFiles()).isEqualTo(0);
+    assertThat(result.matches()).isEqualTo(5);
+    assertThat(result.bytes()).isEqualTo(Files.size(first) + Files.size(second));
+    assertThat(result.filesPerSecond()).isGreaterThan(0.0);
+    assertThat(result.bytesPerSecond()).isGreaterThan(0.0);
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreOnRandomFiles() throws IOException {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    Map<Path, String> texts = new HashMap<>();
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(2, random.nextInt(1000));
+      texts.put(write(tempDir.resolve(run + ".txt"), text), text);
+    }
+    String pattern = generateRandomString(2, random.nextInt(6) + 1);
+    Map<Path, List<Integer>> matches = new HashMap<>();
+    new DirectorySearch(new String[] {pattern}, 3, 4, pattern.length() + random.nextInt(16))
+        .search(
+            tempDir,
+            (file, patternId, offset) ->
+                matches.computeIfAbsent(file, f -> new ArrayList<>()).add((int) offset));
+    for (Map.Entry<Path, String> entry : texts.entrySet()) {
+      List<Integer> expected = boyerMoore.findOccurrences(entry.getValue(), pattern);
+      if (expected.isEmpty()) {
+        assertThat(matches).doesNotContainKey(entry.getKey());
+      } else {
+        assertThat(matches.get(entry.getKey())).containsExactlyElementsIn(expected).inOrder();
+      }
+    }
+  }
+
+  @Test
+  public void shouldStreamMatchesOfPatternsOfMixedLengthsInOffsetOrder() throws IOException {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    Map<Path, String> texts = new HashMap<>();
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(1, random.nextInt(2000));
+      texts.put(write(tempDir.resolve(run + ".txt"), text), text);
+    }
+    String[] patterns = new String[random.nextInt(6) + 1];
+    for (int id = 0; id < patterns.length; id++) {
+      patterns[id] = generateRandomString(1, random.nextInt(8) + 1);
+    }
+    Map<Path, List<String>> matches = new HashMap<>();
+    new DirectorySearch(patterns, 2, 3, 8 + random.nextInt(32))
+        .search(
+            tempDir,
+            (file, patternId, offset) ->
+                matches
+                    .computeIfAbsent(file, f -> new ArrayList<>())
+                    .add(offset + ":" + patternId));
+    for (Map.Entry<Path, String> entry : texts.entrySet()) {
+      String text = entry.getValue();
+      List<String> expected = new ArrayList<>();
+      for (int offset = 0; offset < text.length(); offset++) {
+        for (int id = 0; id < patterns.length; id++) {
+          if (text.startsWith(patterns[id], offset)) expected.add(offset + ":" + id);
+        }
+      }
+      assertThat(matches.getOrDefault(entry.getKey(), new ArrayList<>()))
+          .containsExactlyElementsIn(expected)
+          .inOrder();
+    }
+  }
+
+  private static Path write(Path file, String text) throws IOException {
+    return Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FMIndexTest {
+
+  @TempDir Path tempDir;
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new FMIndex(null));
+    assertThrows(IllegalArgumentException.class, () -> new FMIndex("abc", 0));
+  }
+
+  @Test
+  public void shouldHandleEmptyText() {
+    FMIndex underTest = new FMIndex("");
+    assertThat(underTest.count("a")).isEqualTo(0);
+    assertThat(underTest.locate("a")).isEmpty();
+  }
+
+  @Test
+  public void shouldCountAndLocateOccurrences() {
+    FMIndex underTest = new FMIndex("AABAACAADAABAABA", 3);
+    assertThat(underTest.count("AABA")).isEqualTo(3);
+    assertThat(underTest.locate("AABA")).isEqualTo(new int[] {0, 9, 12});
+    assertThat(underTest.count("A")).isEqualTo(11);
+    assertThat(underTest.count("AX")).isEqualTo(0);
+    assertThat(underTest.count("")).isEqualTo(0);
+    assertThat(underTest.locate(null)).isEmpty();
+  }
+
+  @Test
+  public void shouldSaveAndLoadIndex() throws IOException {
+    FMIndex original = new FMIndex("Привет, мир! Привет!", 4);
+    Path file = tempDir.resolve("index.fm");
+    original.save(file);
+    FMIndex underTest = FMIndex.load(file);
+    assertThat(underTest.length()).isEqualTo(original.length());
+    assertThat(underTest.locate("Привет")).isEqualTo(new int[] {0, 13});
+    assertThat(underTest.count("и")).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldRejectOtherFiles() throws IOException {
+    Path file = tempDir.resolve("other");
+    Files.write(file, new byte[64]);
+    assertThrows(IOException.class, () -> FMIndex.load(file));
+  }
+
+  @Test
+  public void shouldMatchSuffixArrayOnRandomInput() throws IOException {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(5), random.nextInt(1000) + 100);
+      SuffixArrayIndex expected = new SuffixArrayIndex(text);
+      FMIndex built = new FMIndex(text, random.nextInt(40) + 1);
+      Path file = tempDir.resolve("random.fm");
+      built.save(file);
+      FMIndex loaded = FMIndex.load(file);
+      for (int query = 0; query < 10; query++) {
+        String pattern = generateRandomString(random.nextInt(5), random.nextInt(6) + 1);
+        assertThat(built.locate(pattern)).isEqualTo(expected.occurrences(pattern));
+        assertThat(loaded.locate(pattern)).isEqualTo(expected.occurrences(pattern));
+      }
+    }
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -0,0 +1,171 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.*;
+
+public class GzipPipelineSearchTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidArguments() {
+    BoyerMooreBytePattern pattern = compile("abc");
+    assertThrows(IllegalArgumentException.class, () -> new GzipPipelineSearch(null));
+    assertThrows(IllegalArgumentException.class, () -> new GzipPipelineSearch(pattern, 0, 4));
+    assertThrows(IllegalArgumentException.class, () -> new GzipPipelineSearch(pattern, 16, 1));
+  }
+
+  @Test
+  public void shouldFindMatchesAcrossBuffersAndMembers() throws IOException {
+    byte[] archive = concat(gzip("xxAABAAxAAB"), gzip("AAyyAABA"));
+    GzipPipelineSearch underTest = new GzipPipelineSearch(compile("AABA"), 3, 2);
+    List<Long> offsets = new ArrayList<>();
+    assertThat(underTest.search(new ByteArrayInputStream(archive), offsets::add)).isEqualTo(3);
+    assertThat(offsets).containsExactly(2L, 8L, 15L).inOrder();
+  }
+
+  @Test
+  public void shouldPropagateDecompressionAndConsumerFailures() throws IOException {
+    GzipPipelineSearch underTest = new GzipPipelineSearch(compile("a"));
+    byte[] notGzip = "plain text".getBytes(StandardCharsets.US_ASCII);
+    assertThrows(
+        IOException.class,
+        () -> underTest.search(new ByteArrayInputStream(notGzip), offset -> {}));
+    byte[] archive = gzip("aaaa");
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            underTest.search(
+                new ByteArrayInputStream(archive),
+                offset -> {
+                  throw new IllegalStateException();
+                }));
+  }
+
+  @Test
+  public void shouldPropagateUncheckedFailuresFromTheInflaterThread() throws IOException {
+    GzipPipelineSearch underTest = new GzipPipelineSearch(compile("a"));
+    InputStream failing =
+        new FilterInputStream(new ByteArrayInputStream(gzip("aaaa"))) {
+          @Override
+          public int read(byte[] buffer, int offset, int length) {
+            throw new UnsupportedOperationException();
+          }
+        };
+    assertThrows(
+        UnsupportedOperationException.class, () -> underTest.search(failing, offset -> {}));
+  }
+
+  @Test
+  public void shouldStopReadingTheStreamWhenSearchEndsEarly() throws Exception {
+    GzipPipelineSearch underTest = new GzipPipelineSearch(compile("a"), 16, 2);
+    AtomicInteger reads = new AtomicInteger();
+    InputStream counting =
+        new FilterInputStream(new ByteArrayInputStream(gzip(generateRandomString(1, 100_000)))) {
+          @Override
+          public int read(byte[] buffer, int offset, int length) throws IOException {
+            reads.incrementAndGet();
+            return super.read(buffer, offset, Math.min(length, 8));
+          }
+        };
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            underTest.search(
+                counting,
+                offset -> {
+                  throw new IllegalStateException();
+                }));
+    int readsOnReturn = reads.get();
+    Thread.sleep(50);
+    assertThat(reads.get()).isEqualTo(readsOnReturn);
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreOnRandomInput() throws IOException {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(2, random.nextInt(5000) + 100);
+      String pattern = generateRandomString(2, random.nextInt(8) + 1);
+      GzipPipelineSearch underTest =
+          new GzipPipelineSearch(compile(pattern), random.nextInt(64) + 1, random.nextInt(3) + 2);
+      List<Integer> offsets = new ArrayList<>();
+      underTest.search(new ByteArrayInputStream(gzip(text)), offset -> offsets.add((int) offset));
+      assertThat(offsets)
+          .containsExactlyElementsIn(boyerMoore.findOccurrences(text, pattern))
+          .inOrder();
+    }
+  }
+
+  private static BoyerMooreBytePattern compile(String pattern) {
+    return new BoyerMooreBytePattern(pattern.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private static byte[] gzip(String text) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(text.getBytes(StandardCharsets.US_ASCII));
+    }
+    return bytes.toByteArray();
+  }
+
+  private static byte[] concat(byte[] first, byte[] second) {
+    byte[] result = new byte[first.length + second.length];
+    System.arraycopy(first, 0, result, 0, first.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
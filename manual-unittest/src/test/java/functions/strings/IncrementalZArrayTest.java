@@ -0,0 +1,82 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class IncrementalZArrayTest {
+
+  private IncrementalZArray underTest;
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    underTest = new IncrementalZArray();
+    random = new Random();
+  }
+
+  @Test
+  public void shouldBeEmptyInitially() {
+    assertThat(underTest.length()).isEqualTo(0);
+    assertThat(underTest.toArray()).isEmpty();
+    assertThrows(IndexOutOfBoundsException.class, () -> underTest.z(0));
+  }
+
+  @Test
+  public void shouldUpdateZValuesAfterEveryAppend() {
+    underTest.append("abab");
+    assertThat(underTest.toArray()).isEqualTo(new int[] {4, 0, 2, 0});
+    underTest.append('a');
+    assertThat(underTest.toArray()).isEqualTo(new int[] {5, 0, 3, 0, 1});
+    underTest.append('c');
+    assertThat(underTest.toArray()).isEqualTo(new int[] {6, 0, 3, 0, 1, 0});
+    assertThat(underTest.z(2)).isEqualTo(3);
+    assertThat(underTest.toString()).isEqualTo("ababac");
+  }
+
+  @Test
+  public void shouldMatchZAlgorithmOnRandomInput() {
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      IncrementalZArray incremental = new IncrementalZArray();
+      StringBuilder text = new StringBuilder();
+      int upperLimit = random.nextInt(3);
+      int length = random.nextInt(200) + 1;
+      for (int i = 0; i < length; i++) {
+        char c = (char) ('a' + random.nextInt(upperLimit + 1));
+        text.append(c);
+        incremental.append(c);
+        assertThat(incremental.toArray()).isEqualTo(zAlgorithm.calculateZ(text.toString()));
+      }
+    }
+  }
+}
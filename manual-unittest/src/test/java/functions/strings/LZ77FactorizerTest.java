@@ -0,0 +1,192 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class LZ77FactorizerTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectTooSmallWindow() {
+    assertThrows(IllegalArgumentException.class, () -> new LZ77Factorizer(1));
+  }
+
+  @Test
+  public void shouldFactorizeKnownText() {
+    List<String> factors = new ArrayList<>();
+    long count =
+        new LZ77Factorizer()
+            .factorize(
+                "abababc", (position, distance, length) ->
+                    factors.add(position + ":" + distance + ":" + length));
+    assertThat(count).isEqualTo(4);
+    assertThat(factors).containsExactly("0:0:1", "1:0:1", "2:2:4", "6:0:1").inOrder();
+    assertThat(new LZ77Factorizer().factorize("", (p, d, l) -> {})).isEqualTo(0);
+    assertThat(new LZ77Factorizer().factorize((String) null, (p, d, l) -> {})).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldFindLongestPreviousFactorsWhenTextFitsOneBlock() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(500) + 1);
+      List<long[]> factors = new ArrayList<>();
+      new LZ77Factorizer(2 * text.length())
+          .factorize(text, (position, distance, length) ->
+              factors.add(new long[] {position, distance, length}));
+      int i = 0;
+      for (long[] factor : factors) {
+        assertThat(factor[0]).isEqualTo(i);
+        int longest = longestPreviousFactor(text, i);
+        assertThat(factor[2]).isEqualTo(Math.max(longest, 1));
+        if (longest > 0) {
+          int source = i - (int) factor[1];
+          assertThat(text.regionMatches(source, text, i, longest)).isTrue();
+        } else {
+          assertThat(factor[1]).isEqualTo(0);
+        }
+        i += (int) factor[2];
+      }
+      assertThat(i).isEqualTo(text.length());
+    }
+  }
+
+  @Test
+  public void shouldFindLongestPreviousFactorsOfHighCharsInSmallWindows() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text =
+          generateRandomString(random.nextInt(3), random.nextInt(30) + 1)
+              .replace('a', '一')
+              .replace('b', '丁')
+              .replace('c', '\uffff');
+      List<long[]> factors = new ArrayList<>();
+      new LZ77Factorizer(2 * text.length())
+          .factorize(text, (position, distance, length) ->
+              factors.add(new long[] {position, distance, length}));
+      int i = 0;
+      for (long[] factor : factors) {
+        assertThat(factor[2]).isEqualTo(Math.max(longestPreviousFactor(text, i), 1));
+        i += (int) factor[2];
+      }
+      assertThat(i).isEqualTo(text.length());
+    }
+  }
+
+  @Test
+  public void shouldRebuildInputFromFactorsWithinWindow() throws IOException {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(5000) + 1);
+      int windowSize = random.nextInt(200) + 2;
+      StringBuilder rebuilt = new StringBuilder();
+      new LZ77Factorizer(windowSize)
+          .factorize(
+              new ChunkedReader(text),
+              (position, distance, length) -> {
+                assertThat(position).isEqualTo(rebuilt.length());
+                assertThat(distance).isLessThan(windowSize);
+                if (distance == 0) {
+                  rebuilt.append(text.charAt((int) position));
+                } else {
+                  for (int k = 0; k < length; k++) {
+                    rebuilt.append(rebuilt.charAt(rebuilt.length() - distance));
+                  }
+                }
+              });
+      assertThat(rebuilt.toString()).isEqualTo(text);
+    }
+  }
+
+  @Test
+  public void shouldFactorizeEveryCharSequenceAlike() throws IOException {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(5000) + 1);
+      LZ77Factorizer underTest = new LZ77Factorizer(random.nextInt(200) + 2);
+      List<String> expected = new ArrayList<>();
+      underTest.factorize(
+          new StringReader(text), (p, d, l) -> expected.add(p + ":" + d + ":" + l));
+      for (CharSequence sequence : new CharSequence[] {text, new StringBuilder(text)}) {
+        List<String> factors = new ArrayList<>();
+        underTest.factorize(sequence, (p, d, l) -> factors.add(p + ":" + d + ":" + l));
+        assertThat(factors).containsExactlyElementsIn(expected).inOrder();
+      }
+    }
+  }
+
+  private static int longestPreviousFactor(String text, int i) {
+    int longest = 0;
+    for (int source = 0; source < i; source++) {
+      int k = 0;
+      while (i + k < text.length() && text.charAt(source + k) == text.charAt(i + k)) k++;
+      longest = Math.max(longest, k);
+    }
+    return longest;
+  }
+
+  // Hands out at most 7 characters per read, as readers over sockets or pipes may
+  private static class ChunkedReader extends Reader {
+    private final StringReader reader;
+
+    ChunkedReader(String text) {
+      reader = new StringReader(text);
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+      return reader.read(buffer, offset, Math.min(length, 7));
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
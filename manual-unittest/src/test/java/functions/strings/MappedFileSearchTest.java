@@ -0,0 +1,123 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedFileSearchTest {
+
+  @TempDir Path tempDir;
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidArguments() {
+    BoyerMooreBytePattern pattern = compile("ABC");
+    assertThrows(IllegalArgumentException.class, () -> new MappedFileSearch(pattern, 2));
+    assertThrows(IllegalArgumentException.class, () -> new MappedFileSearch(pattern, 1L << 31));
+    assertThrows(IllegalArgumentException.class, () -> new MappedFileSearch(null));
+    assertThrows(IllegalArgumentException.class, () -> new BoyerMooreBytePattern(new byte[0]));
+  }
+
+  @Test
+  public void shouldFindMatchesAcrossWindows() throws IOException {
+    Path file = write("AABAACAADAABAABA");
+    MappedFileSearch underTest = new MappedFileSearch(compile("AABA"), 5);
+    List<Long> offsets = new ArrayList<>();
+    assertThat(underTest.search(file, offsets::add)).isEqualTo(3);
+    assertThat(offsets).containsExactly(0L, 9L, 12L).inOrder();
+  }
+
+  @Test
+  public void shouldHandleEmptyAndShortFiles() throws IOException {
+    assertThat(new MappedFileSearch(compile("A")).search(write(""), offset -> {})).isEqualTo(0);
+    assertThat(new MappedFileSearch(compile("ABC")).search(write("AB"), offset -> {}))
+        .isEqualTo(0);
+  }
+
+  @Test
+  public void bytePatternShouldSearchArraysAndBuffers() {
+    BoyerMooreBytePattern underTest = compile("AA");
+    byte[] text = "xAAAx".getBytes(StandardCharsets.US_ASCII);
+    List<Integer> offsets = new ArrayList<>();
+    assertThat(underTest.forEach(text, 0, text.length, offsets::add)).isEqualTo(2);
+    assertThat(underTest.forEach(ByteBuffer.wrap(text), 2, text.length, offsets::add))
+        .isEqualTo(1);
+    assertThat(offsets).containsExactly(1, 2, 2).inOrder();
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreOnRandomInput() throws IOException {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(2, random.nextInt(1000) + 100);
+      String pattern = generateRandomString(2, random.nextInt(8) + 1);
+      MappedFileSearch underTest =
+          new MappedFileSearch(compile(pattern), pattern.length() + random.nextInt(32));
+      List<Integer> offsets = new ArrayList<>();
+      underTest.search(write(text), offset -> offsets.add((int) offset));
+      assertThat(offsets)
+          .containsExactlyElementsIn(boyerMoore.findOccurrences(text, pattern))
+          .inOrder();
+    }
+  }
+
+  private Path write(String text) throws IOException {
+    Path file = Files.createTempFile(tempDir, "text", ".txt");
+    return Files.write(file, text.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private static BoyerMooreBytePattern compile(String pattern) {
+    return new BoyerMooreBytePattern(pattern.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedZArrayTest {
+
+  @TempDir Path tempDir;
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidArguments() throws IOException {
+    Path text = Files.write(tempDir.resolve("text"), new byte[] {'a'});
+    Path output = tempDir.resolve("z");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MappedZArray.calculateZ(null, output, MappedZArray.Width.INT));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MappedZArray.calculateZ(text, output, MappedZArray.Width.INT, 2));
+    try (MappedZArray underTest = MappedZArray.calculateZ(text, output, MappedZArray.Width.INT)) {
+      assertThrows(IndexOutOfBoundsException.class, () -> underTest.get(1));
+      assertThrows(IndexOutOfBoundsException.class, () -> underTest.get(-1));
+    }
+  }
+
+  @Test
+  public void shouldRejectIntWidthForTextsBeyondIntRange() throws IOException {
+    Path text = tempDir.resolve("large");
+    try (RandomAccessFile file = new RandomAccessFile(text.toFile(), "rw")) {
+      file.setLength(Integer.MAX_VALUE + 1L);
+    }
+    Path output = Files.write(tempDir.resolve("z"), new byte[] {1});
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MappedZArray.calculateZ(text, output, MappedZArray.Width.INT));
+    assertThat(Files.readAllBytes(output)).isEqualTo(new byte[] {1});
+  }
+
+  @Test
+  public void shouldHandleEmptyText() throws IOException {
+    Path text = Files.write(tempDir.resolve("text"), new byte[0]);
+    try (MappedZArray underTest =
+        MappedZArray.calculateZ(text, tempDir.resolve("z"), MappedZArray.Width.LONG)) {
+      assertThat(underTest.length()).isEqualTo(0);
+      assertThat(Files.size(tempDir.resolve("z"))).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void shouldMatchHeapZArrayAcrossSegments() throws IOException {
+    ZAlgorithm zAlgorithm = new ZAlgorithm();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      byte[] bytes = generateRandomBytes(random.nextInt(3), random.nextInt(3000) + 1);
+      int[] expected = zAlgorithm.calculateZ(bytes, 0, bytes.length, new int[bytes.length]);
+      Path text = Files.write(tempDir.resolve("text" + run), bytes);
+      MappedZArray.Width width = MappedZArray.Width.values()[random.nextInt(2)];
+      Path output = tempDir.resolve("z" + run);
+      try (MappedZArray underTest =
+          MappedZArray.calculateZ(text, output, width, random.nextInt(8) + 3)) {
+        assertThat(underTest.length()).isEqualTo(bytes.length);
+        assertThat(underTest.width()).isEqualTo(width);
+        assertThat(Files.size(output)).isEqualTo((long) bytes.length * width.bytes);
+        for (int i = 0; i < bytes.length; i++) {
+          assertThat(underTest.get(i)).isEqualTo(expected[i]);
+        }
+      }
+    }
+  }
+
+  private byte[] generateRandomBytes(int upperLimitAscii, int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) bytes[i] = (byte) ('a' + random.nextInt(upperLimitAscii + 1));
+    return bytes;
+  }
+}
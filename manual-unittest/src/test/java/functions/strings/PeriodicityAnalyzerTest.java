@@ -0,0 +1,124 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class PeriodicityAnalyzerTest {
+
+  private PeriodicityAnalyzer underTest;
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    underTest = new PeriodicityAnalyzer();
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectNullKeyAndSliceOutsideText() {
+    assertThrows(IllegalArgumentException.class, () -> underTest.smallestPeriod(null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> underTest.smallestPeriod(new char[3], 2, 2));
+  }
+
+  @Test
+  public void shouldAnalyzeKnownKeys() {
+    assertThat(underTest.smallestPeriod("")).isEqualTo(0);
+    assertThat(underTest.smallestPeriod("a")).isEqualTo(1);
+    assertThat(underTest.smallestPeriod("abaababaab")).isEqualTo(5);
+    assertThat(underTest.smallestPeriod("xabcabcabx".toCharArray(), 1, 8)).isEqualTo(3);
+    assertThat(underTest.borders("aabaabaa")).isEqualTo(new int[] {5, 2, 1});
+    assertThat(underTest.borders("abc")).isEmpty();
+    assertThat(underTest.isPower("abab")).isTrue();
+    assertThat(underTest.isPower("ababa")).isFalse();
+    assertThat(underTest.isPower("a")).isFalse();
+  }
+
+  @Test
+  public void shouldMatchBruteForceOnRandomKeys() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String key = generatePeriodicString(random.nextInt(200));
+      int n = key.length();
+      List<Integer> expectedBorders = new ArrayList<>();
+      for (int b = n - 1; b > 0; b--) {
+        if (key.regionMatches(0, key, n - b, b)) expectedBorders.add(b);
+      }
+      int expectedPeriod = expectedBorders.isEmpty() ? n : n - expectedBorders.get(0);
+
+      assertThat(underTest.borders(key)).asList().containsExactlyElementsIn(expectedBorders);
+      assertThat(underTest.smallestPeriod(key)).isEqualTo(expectedPeriod);
+      boolean expectedPower = false;
+      for (int p = 1; p < n; p++) {
+        if (n % p == 0 && key.equals(repeat(key.substring(0, p), n / p))) expectedPower = true;
+      }
+      assertThat(underTest.isPower(key)).isEqualTo(expectedPower);
+    }
+  }
+
+  @Test
+  public void shouldAgreeAcrossBatchMethods() {
+    String[] keys = new String[random.nextInt(40_000) + 1];
+    char[][] charKeys = new char[keys.length][];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = generatePeriodicString(random.nextInt(30));
+      charKeys[i] = keys[i].toCharArray();
+    }
+    int[] expected = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      expected[i] = new PeriodicityAnalyzer().smallestPeriod(keys[i]);
+    }
+    assertThat(underTest.smallestPeriods(keys)).isEqualTo(expected);
+    assertThat(underTest.smallestPeriods(charKeys)).isEqualTo(expected);
+    assertThat(PeriodicityAnalyzer.smallestPeriodsParallel(keys)).isEqualTo(expected);
+    assertThat(PeriodicityAnalyzer.smallestPeriodsParallel(charKeys)).isEqualTo(expected);
+  }
+
+  // A random binary prefix repeated, sometimes with one character changed, up to length
+  private String generatePeriodicString(int length) {
+    int period = random.nextInt(Math.max(1, length)) + 1;
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = i < period ? (char) ('a' + random.nextInt(2)) : chars[i - period];
+    }
+    if (length > 0 && random.nextBoolean()) chars[random.nextInt(length)] = 'c';
+    return new String(chars);
+  }
+
+  private static String repeat(String s, int times) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < times; i++) sb.append(s);
+    return sb.toString();
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class RabinKarpBatchMatcherTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidPatterns() {
+    assertThrows(IllegalArgumentException.class, () -> new RabinKarpBatchMatcher(null));
+    assertThrows(IllegalArgumentException.class, () -> new RabinKarpBatchMatcher(new String[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> new RabinKarpBatchMatcher(new String[] {"ab", ""}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new RabinKarpBatchMatcher(new String[] {"ab", "abc"}));
+  }
+
+  @Test
+  public void shouldReportOccurrencesByOffsetThenPatternId() {
+    RabinKarpBatchMatcher underTest = new RabinKarpBatchMatcher(new String[] {"ab", "ba", "ab"});
+    List<String> matches = new ArrayList<>();
+    int count =
+        underTest.search("abab", (patternId, offset) -> matches.add(offset + ":" + patternId));
+    assertThat(count).isEqualTo(5);
+    assertThat(matches).containsExactly("0:0", "0:2", "1:1", "2:0", "2:2").inOrder();
+    assertThat(underTest.search("a", (patternId, offset) -> {})).isEqualTo(0);
+    assertThat(underTest.findOccurrences(null)).isEmpty();
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreForEveryPattern() {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(1000) + 100);
+      int m = random.nextInt(6) + 1;
+      String[] patterns = new String[random.nextInt(50) + 1];
+      for (int i = 0; i < patterns.length; i++) {
+        patterns[i] = generateRandomString(random.nextInt(3), m);
+      }
+      List<List<Integer>> offsets = new ArrayList<>();
+      for (String pattern : patterns) offsets.add(new ArrayList<>());
+      new RabinKarpBatchMatcher(patterns)
+          .search(text, (patternId, offset) -> offsets.get(patternId).add(offset));
+      for (int i = 0; i < patterns.length; i++) {
+        assertThat(offsets.get(i))
+            .containsExactlyElementsIn(boyerMoore.findOccurrences(text, patterns[i]))
+            .inOrder();
+      }
+    }
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class SuffixArrayIndexTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectNullText() {
+    assertThrows(IllegalArgumentException.class, () -> new SuffixArrayIndex(null));
+  }
+
+  @Test
+  public void shouldHandleEmptyText() {
+    SuffixArrayIndex underTest = new SuffixArrayIndex("");
+    assertThat(underTest.suffixArray()).isEmpty();
+    assertThat(underTest.count("a")).isEqualTo(0);
+    assertThat(underTest.longestRepeatedSubstring()).isEmpty();
+  }
+
+  @Test
+  public void shouldBuildSuffixAndLcpArrays() {
+    SuffixArrayIndex underTest = new SuffixArrayIndex("banana");
+    assertThat(underTest.suffixArray()).isEqualTo(new int[] {5, 3, 1, 0, 4, 2});
+    assertThat(underTest.lcpArray()).isEqualTo(new int[] {0, 1, 3, 0, 0, 2});
+    assertThat(underTest.longestRepeatedSubstring()).isEqualTo("ana");
+    assertThat(new SuffixArrayIndex("abc").longestRepeatedSubstring()).isEmpty();
+  }
+
+  @Test
+  public void shouldAnswerOccurrenceAndCountQueries() {
+    SuffixArrayIndex underTest = new SuffixArrayIndex("AABAACAADAABAABA");
+    assertThat(underTest.occurrences("AABA")).isEqualTo(new int[] {0, 9, 12});
+    assertThat(underTest.count("AABA")).isEqualTo(3);
+    assertThat(underTest.count("A")).isEqualTo(11);
+    assertThat(underTest.count("AABAABAA")).isEqualTo(0);
+    assertThat(underTest.count("")).isEqualTo(0);
+    assertThat(underTest.occurrences(null)).isEmpty();
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreOnRandomInput() {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(1000) + 100);
+      SuffixArrayIndex underTest = new SuffixArrayIndex(text);
+      for (int query = 0; query < 10; query++) {
+        String pattern = generateRandomString(random.nextInt(3), random.nextInt(6) + 1);
+        List<Integer> expected = boyerMoore.findOccurrences(text, pattern);
+        assertThat(underTest.occurrences(pattern))
+            .asList()
+            .containsExactlyElementsIn(expected)
+            .inOrder();
+      }
+    }
+  }
+
+  @Test
+  public void shouldMatchPrefixDoublingWhenSortingByInducing() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(4), random.nextInt(2000));
+      char[] buffer = (text + "zz").toCharArray();
+      assertThat(SuffixArrayIndex.buildSuffixArray(buffer, text.length()))
+          .isEqualTo(SuffixArrayIndex.buildSuffixArray(text));
+    }
+    char[] extremes = {Character.MAX_VALUE, 0, Character.MAX_VALUE, 0, 0};
+    assertThat(SuffixArrayIndex.buildSuffixArray(extremes, extremes.length))
+        .isEqualTo(SuffixArrayIndex.buildSuffixArray(new String(extremes)));
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -0,0 +1,70 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class SymbolIndexTableTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldReturnMinusOneWhenEmpty() {
+    SymbolIndexTable underTest = new SymbolIndexTable();
+    assertThat(underTest.get(0)).isEqualTo(-1);
+    assertThat(underTest.get(Long.MIN_VALUE)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldMatchHashMapOnRandomSymbols() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      SymbolIndexTable underTest = new SymbolIndexTable();
+      Map<Long, Integer> expected = new HashMap<>();
+      int range = random.nextInt(1000) + 1;
+      int length = random.nextInt(5000);
+      for (int i = 0; i < length; i++) {
+        long symbol = random.nextInt(range) * 0x100000001L - range / 2;
+        underTest.put(symbol, i);
+        expected.put(symbol, i);
+      }
+      for (int i = 0; i < 2 * range; i++) {
+        long symbol = (i - range / 2) * 0x100000001L - range / 2;
+        assertThat(underTest.get(symbol)).isEqualTo(expected.getOrDefault(symbol, -1));
+      }
+    }
+  }
+}
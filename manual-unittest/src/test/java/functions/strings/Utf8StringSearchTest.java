@@ -0,0 +1,107 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class Utf8StringSearchTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectInvalidPattern() {
+    assertThrows(IllegalArgumentException.class, () -> new Utf8StringSearch(null));
+    assertThrows(IllegalArgumentException.class, () -> new Utf8StringSearch(""));
+    assertThrows(IllegalArgumentException.class, () -> new Utf8StringSearch("a\uD800"));
+  }
+
+  @Test
+  public void shouldReportByteAndCharOffsetsOfMultiByteCodePoints() {
+    String text = "aé😀ж😀ж";
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    Utf8StringSearch underTest = new Utf8StringSearch("😀ж");
+    assertThat(underTest.find(bytes)).containsExactly(3, 9).inOrder();
+
+    List<Integer> charOffsets = new ArrayList<>();
+    int count =
+        underTest.forEachWithCharOffsets(
+            ByteBuffer.wrap(bytes),
+            0,
+            bytes.length,
+            (byteOffset, charOffset) -> charOffsets.add(charOffset));
+    assertThat(count).isEqualTo(2);
+    assertThat(charOffsets).containsExactly(text.indexOf("😀ж"), text.lastIndexOf("😀ж"));
+  }
+
+  @Test
+  public void shouldMatchDecodedSearchOnRandomInput() {
+    String[] symbols = {"a", "b", "é", "ж", "你", "😀"};
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = randomText(symbols, random.nextInt(500) + 50);
+      String pattern = randomText(symbols, random.nextInt(4) + 1);
+      byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+      List<Integer> charOffsets = new ArrayList<>();
+      List<Integer> byteOffsets = new ArrayList<>();
+      new Utf8StringSearch(pattern)
+          .forEachWithCharOffsets(
+              bytes,
+              0,
+              bytes.length,
+              (byteOffset, charOffset) -> {
+                byteOffsets.add(byteOffset);
+                charOffsets.add(charOffset);
+              });
+      List<Integer> expected = boyerMoore.findOccurrences(text, pattern);
+      assertThat(charOffsets).containsExactlyElementsIn(expected).inOrder();
+      for (int i = 0; i < expected.size(); i++) {
+        int byteOffset = text.substring(0, expected.get(i)).getBytes(StandardCharsets.UTF_8).length;
+        assertThat(byteOffsets.get(i)).isEqualTo(byteOffset);
+      }
+    }
+  }
+
+  private String randomText(String[] symbols, int length) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) builder.append(symbols[random.nextInt(symbols.length)]);
+    return builder.toString();
+  }
+}
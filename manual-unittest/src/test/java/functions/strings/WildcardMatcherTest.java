@@ -0,0 +1,129 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class WildcardMatcherTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectEmptyPattern() {
+    assertThrows(IllegalArgumentException.class, () -> new WildcardMatcher(null));
+    assertThrows(IllegalArgumentException.class, () -> new WildcardMatcher(""));
+    char[] tooLong = new char[WildcardMatcher.MAX_PATTERN_LENGTH + 1];
+    assertThrows(IllegalArgumentException.class, () -> new WildcardMatcher(new String(tooLong)));
+  }
+
+  @Test
+  public void shouldMatchWildcardsAgainstAnyCharacter() {
+    assertThat(new WildcardMatcher("a?c").find("abcaxcac")).containsExactly(0, 3).inOrder();
+    assertThat(new WildcardMatcher("??").find("abc")).containsExactly(0, 1).inOrder();
+    assertThat(new WildcardMatcher("a*", '*').find("a?ab")).containsExactly(0, 2).inOrder();
+    assertThat(new WildcardMatcher("abc").find("ab")).isEmpty();
+    assertThat(new WildcardMatcher("abc").find(null)).isEmpty();
+  }
+
+  @Test
+  public void shouldMatchBruteForceOnLongPatterns() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(2), random.nextInt(5000) + 100);
+      int m = WildcardMatcher.NAIVE_THRESHOLD + random.nextInt(2000);
+      int start = random.nextInt(Math.max(1, text.length() - m));
+      String pattern =
+          text.length() >= m && random.nextBoolean()
+              ? text.substring(start, start + m)
+              : generateRandomString(random.nextInt(2), m);
+      char[] chars = pattern.toCharArray();
+      double wildcardRate = random.nextDouble();
+      for (int j = 0; j < m; j++) if (random.nextDouble() < wildcardRate) chars[j] = '?';
+      pattern = new String(chars);
+      assertThat(new WildcardMatcher(pattern).find(text))
+          .containsExactlyElementsIn(bruteForce(text, pattern))
+          .inOrder();
+    }
+  }
+
+  @Test
+  public void shouldReportEveryAlignmentWhenMatchesAreDense() {
+    char[] text = new char[20_000];
+    Arrays.fill(text, 'a');
+    char[] pattern = new char[WildcardMatcher.NAIVE_THRESHOLD + random.nextInt(3000)];
+    Arrays.fill(pattern, 'a');
+    for (int j = 0; j < pattern.length; j += 5) pattern[j] = '?';
+    List<Integer> occurrences = new WildcardMatcher(new String(pattern)).find(new String(text));
+    assertThat(occurrences).hasSize(text.length - pattern.length + 1);
+    for (int i = 0; i < occurrences.size(); i++) assertThat(occurrences.get(i)).isEqualTo(i);
+  }
+
+  @Test
+  public void shouldMatchBruteForceOnShortPatterns() {
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(500) + 1);
+      char[] chars = generateRandomString(random.nextInt(3), random.nextInt(10) + 1).toCharArray();
+      for (int j = 0; j < chars.length; j++) if (random.nextInt(3) == 0) chars[j] = '?';
+      String pattern = new String(chars);
+      assertThat(new WildcardMatcher(pattern).find(text))
+          .containsExactlyElementsIn(bruteForce(text, pattern))
+          .inOrder();
+    }
+  }
+
+  private static List<Integer> bruteForce(String text, String pattern) {
+    List<Integer> occurrences = new ArrayList<>();
+    for (int i = 0; i + pattern.length() <= text.length(); i++) {
+      int j = 0;
+      while (j < pattern.length()
+          && (pattern.charAt(j) == '?' || pattern.charAt(j) == text.charAt(i + j))) j++;
+      if (j == pattern.length()) occurrences.add(i);
+    }
+    return occurrences;
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -0,0 +1,112 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 William Fiset
+
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package functions.strings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+public class ZAlgorithmMatcherTest {
+
+  private Random random;
+  private final int MAX_ITERATION = 20;
+
+  @BeforeEach
+  public void setup() {
+    random = new Random();
+  }
+
+  @Test
+  public void shouldRejectNullOrEmptyPattern() {
+    assertThrows(IllegalArgumentException.class, () -> new ZAlgorithmMatcher(null));
+    assertThrows(IllegalArgumentException.class, () -> new ZAlgorithmMatcher(""));
+  }
+
+  @Test
+  public void shouldReturnOverlappingOccurrences() {
+    assertThat(new ZAlgorithmMatcher("AA").find("ABABAAABAABAB")).containsExactly(4, 5, 8);
+    assertThat(new ZAlgorithmMatcher("aab").find("aaabaabaab")).containsExactly(1, 4, 7);
+    assertThat(new ZAlgorithmMatcher("abcabd").find("abcabcabd")).containsExactly(3);
+    assertThat(new ZAlgorithmMatcher("x").find(null)).isEmpty();
+  }
+
+  @Test
+  public void shouldStreamReaderWithAbsoluteOffsets() throws IOException {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 5000; i++) text.append("abcab");
+    List<Long> offsets = new ArrayList<>();
+    ZAlgorithmMatcher underTest = new ZAlgorithmMatcher("cabab");
+    long count = underTest.search(new StringReader(text.toString()), offsets::add);
+    assertThat(count).isEqualTo(4999);
+    assertThat(offsets.get(0)).isEqualTo(2L);
+    assertThat(offsets.get(4998)).isEqualTo(24992L);
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreOnRandomInput() {
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(1000) + 100);
+      String pattern = generateRandomString(random.nextInt(3), random.nextInt(10) + 1);
+      assertThat(new ZAlgorithmMatcher(pattern).find(text))
+          .containsExactlyElementsIn(boyerMoore.findOccurrences(text, pattern))
+          .inOrder();
+    }
+  }
+
+  @Test
+  public void shouldMatchBoyerMooreIgnoringCase() throws IOException {
+    ZAlgorithmMatcher underTest = new ZAlgorithmMatcher("StraSSe", true);
+    assertThat(underTest.find("strasse STRASSE Strasse")).containsExactly(0, 8, 16).inOrder();
+    assertThat(underTest.search(new StringReader("xSTRAsse"), offset -> {})).isEqualTo(1);
+
+    BoyerMooreStringSearch boyerMoore = new BoyerMooreStringSearch();
+    int runLength = random.nextInt(MAX_ITERATION) + 1;
+    for (int run = 0; run < runLength; run++) {
+      String text = generateRandomString(random.nextInt(3), random.nextInt(1000) + 100);
+      String pattern = generateRandomString(random.nextInt(3), random.nextInt(10) + 1);
+      String mixedText = random.nextBoolean() ? text.toUpperCase() : text;
+      assertThat(new ZAlgorithmMatcher(pattern, true).find(mixedText))
+          .containsExactlyElementsIn(boyerMoore.findOccurrencesIgnoreCase(mixedText, pattern))
+          .inOrder();
+    }
+  }
+
+  private String generateRandomString(int upperLimitAscii, int length) {
+    return random
+        .ints('a', 'a' + upperLimitAscii + 1)
+        .limit(length)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+  }
+}
@@ -26,7 +26,10 @@
 package functions.strings;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import org.junit.jupiter.api.*;
 
 public class ZAlgorithmTest {
@@ -61,4 +64,58 @@ public class ZAlgorithmTest {
     assertThat(underTest.calculateZ("abcabcabca"))
         .isEqualTo(new int[] {10, 0, 0, 7, 0, 0, 4, 0, 0, 1});
   }
+
+  @Test
+  public void slicesShouldMatchStringVersion() {
+    String[] texts = {"aaaaaaa", "abcdefgh", "abababab", "abcabcabca", "aabcaabxaaaz", "a"};
+    int[] workspace = new int[16];
+    for (String text : texts) {
+      char[] chars = ("##" + text + "#").toCharArray();
+      byte[] bytes = ("#" + text).getBytes(StandardCharsets.US_ASCII);
+      int[] expected = underTest.calculateZ(text);
+      underTest.calculateZ(chars, 2, text.length(), workspace);
+      assertThat(Arrays.copyOf(workspace, text.length())).isEqualTo(expected);
+      underTest.calculateZ(bytes, 1, text.length(), workspace);
+      assertThat(Arrays.copyOf(workspace, text.length())).isEqualTo(expected);
+      int[] tokens = text.chars().map(c -> c * 1_000_003).toArray();
+      underTest.calculateZ(tokens, 0, tokens.length, workspace);
+      assertThat(Arrays.copyOf(workspace, text.length())).isEqualTo(expected);
+      long[] longTokens = text.chars().mapToLong(c -> -((long) c << 40)).toArray();
+      underTest.calculateZ(longTokens, 0, longTokens.length, workspace);
+      assertThat(Arrays.copyOf(workspace, text.length())).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void slicesShouldRejectInvalidBounds() {
+    int[] workspace = new int[3];
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> underTest.calculateZ(new char[4], 2, 3, workspace));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> underTest.calculateZ(new byte[4], -1, 2, workspace));
+    assertThrows(
+        IllegalArgumentException.class, () -> underTest.calculateZ(new char[4], 0, 4, workspace));
+    assertThat(underTest.calculateZ(new char[4], 4, 0, new int[0])).isEmpty();
+  }
+
+  @Test
+  public void tokenSearchShouldMatchStringSearch() {
+    String[] texts = {"aaaaaaa", "abcabcabca", "aabcaabxaaaz", "abababab", ""};
+    String[] patterns = {"a", "aa", "abca", "aab", "abab", "z", "zz"};
+    for (String text : texts) {
+      int[] tokens = text.chars().toArray();
+      long[] longTokens = text.chars().mapToLong(c -> c + Long.MIN_VALUE).toArray();
+      for (String pattern : patterns) {
+        assertThat(underTest.findTokenOccurrences(tokens, pattern.chars().toArray()))
+            .containsExactlyElementsIn(underTest.findOccurrences(text, pattern))
+            .inOrder();
+        long[] longPattern = pattern.chars().mapToLong(c -> c + Long.MIN_VALUE).toArray();
+        assertThat(underTest.findTokenOccurrences(longTokens, longPattern))
+            .containsExactlyElementsIn(underTest.findOccurrences(text, pattern))
+            .inOrder();
+      }
+    }
+    assertThat(underTest.findTokenOccurrences((int[]) null, new int[] {1})).isEmpty();
+    assertThat(underTest.findTokenOccurrences(new long[] {1}, new long[0])).isEmpty();
+  }
 }